@@ -0,0 +1,4 @@
+#!/bin/bash
+# 레플리카(pg_basebackup / 스트리밍 복제) 접속 허용
+set -e
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
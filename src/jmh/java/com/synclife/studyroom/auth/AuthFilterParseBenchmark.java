@@ -0,0 +1,67 @@
+package com.synclife.studyroom.auth;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행되는 Authorization 헤더 해석 (간단 토큰).
+ * - legacyParse : 이전 구현 (substring/trim/parseLong + 매번 AuthContext 생성) — 비교 기준
+ * - verify      : SimpleTokenVerifier 제자리 스캔
+ * - resolve     : AuthFilter 경로 (헤더별 검증 결과 캐시)
+ * gc 프로파일러의 gc.alloc.rate.norm(B/op)으로 할당량을 비교한다.
+ * ./gradlew jmh -Pjmh.includes=AuthFilterParseBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthFilterParseBenchmark {
+
+    @Param({"admin", "user", "malformed-user", "other-scheme", "missing"})
+    public String shape;
+
+    private String header;
+    private String token;
+    private SimpleTokenVerifier verifier;
+    private AuthFilter filter;
+
+    @Setup
+    public void setUp() {
+        header = switch (shape) {
+            case "admin" -> "Bearer admin-token";
+            case "user" -> "Bearer user-token-1234567";
+            case "malformed-user" -> "Bearer user-token-12x4";
+            case "other-scheme" -> "Basic dXNlcjpwYXNz";
+            default -> null;
+        };
+        token = AuthFilter.bearerToken(header);
+        verifier = new SimpleTokenVerifier();
+        filter = new AuthFilter(verifier, 10_000, Duration.ofMinutes(5), Clock.systemUTC());
+    }
+
+    @Benchmark
+    public AuthContext legacyParse() {
+        if (header == null || !header.startsWith("Bearer ")) return null;
+        String token = header.substring(7).trim();
+        if ("admin-token".equals(token)) return new AuthContext(Role.ADMIN, null);
+        if (token.startsWith("user-token-")) {
+            try {
+                long uid = Long.parseLong(token.substring("user-token-".length()));
+                return new AuthContext(Role.USER, uid);
+            } catch (NumberFormatException ignore) {}
+        }
+        return null;
+    }
+
+    @Benchmark
+    public TokenVerifier.Verified verify() {
+        return verifier.verify(token);
+    }
+
+    @Benchmark
+    public AuthContext resolve() {
+        return filter.resolve(header);
+    }
+}
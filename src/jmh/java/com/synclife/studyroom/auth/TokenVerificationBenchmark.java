@@ -0,0 +1,63 @@
+package com.synclife.studyroom.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HS256 토큰 검증 비용: 캐시 없이 매번 서명 검증(cold) vs AuthFilter 캐시 적중(warm).
+ * distinctTokens개의 토큰을 돌려 쓰며, warm은 셋업에서 한 번씩 검증해 캐시를 채운다.
+ * ./gradlew jmh -Pjmh.includes=TokenVerificationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenVerificationBenchmark {
+
+    @Param({"1", "1000"})
+    public int distinctTokens;
+
+    private HmacTokenVerifier verifier;
+    private AuthFilter filter;
+    private String[] tokens;
+    private String[] headers;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        verifier = new HmacTokenVerifier("0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8),
+                "studyroom", Duration.ofSeconds(30), Clock.systemUTC(), new ObjectMapper());
+        filter = new AuthFilter(verifier, 10_000, Duration.ofMinutes(5), Clock.systemUTC());
+
+        long exp = Instant.now().plus(Duration.ofHours(1)).getEpochSecond();
+        tokens = new String[distinctTokens];
+        headers = new String[distinctTokens];
+        for (int i = 0; i < distinctTokens; i++) {
+            tokens[i] = verifier.sign("""
+                    {"sub":"%d","role":"USER","iss":"studyroom","exp":%d}""".formatted(i + 1, exp));
+            headers[i] = "Bearer " + tokens[i];
+            filter.resolve(headers[i]);
+        }
+    }
+
+    @Benchmark
+    public TokenVerifier.Verified cold() {
+        return verifier.verify(tokens[nextIndex()]);
+    }
+
+    @Benchmark
+    public AuthContext warm() {
+        return filter.resolve(headers[nextIndex()]);
+    }
+
+    private int nextIndex() {
+        int i = next;
+        next = i + 1 == distinctTokens ? 0 : i + 1;
+        return i;
+    }
+}
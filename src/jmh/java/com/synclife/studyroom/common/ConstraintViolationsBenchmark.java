@@ -0,0 +1,76 @@
+package com.synclife.studyroom.common;
+
+import com.synclife.studyroom.reservation.domain.ReservationConstraints;
+import org.openjdk.jmh.annotations.*;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 생성 실패 경로의 제약 위반 판별과 409 예외 생성 비용.
+ * legacy = 이전 방식(가장 안쪽 원인 메시지 검사 + SQLSTATE), classify/translate = SQLSTATE + 제약명.
+ * ./gradlew jmh -Pjmh.includes=ConstraintViolationsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConstraintViolationsBenchmark {
+
+    @Param({"exclusion", "foreign-key", "nested-exclusion", "other"})
+    public String shape;
+
+    private DataIntegrityViolationException exception;
+
+    @Setup
+    public void setUp() {
+        exception = switch (shape) {
+            case "exclusion" -> wrap(psql("23P01", ReservationConstraints.NO_OVERLAP,
+                    "conflicting key value violates exclusion constraint \"reservations_no_overlap\""));
+            case "foreign-key" -> wrap(psql("23503", ReservationConstraints.ROOM_FK,
+                    "insert or update on table \"reservations\" violates foreign key constraint \"reservations_room_id_fkey\""));
+            case "nested-exclusion" -> wrap(new RuntimeException("batch",
+                    new RuntimeException("statement", psql("23P01", ReservationConstraints.NO_OVERLAP,
+                            "conflicting key value violates exclusion constraint \"reservations_no_overlap\""))));
+            default -> wrap(new SQLException("value too long for type character varying(100)", "22001"));
+        };
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        Throwable root = exception.getMostSpecificCause();
+        return root != null && root.getMessage() != null && root.getMessage().contains("exclusion constraint")
+                || (root instanceof PSQLException p && "23P01".equals(p.getSQLState()));
+    }
+
+    @Benchmark
+    public ConstraintViolations.Violation classify() {
+        return ConstraintViolations.classify(exception);
+    }
+
+    @Benchmark
+    public RuntimeException translate() {
+        return ReservationConstraints.translate(exception);
+    }
+
+    @Benchmark
+    public RuntimeException conflictWithStackTrace() {
+        return new IllegalStateException("CONFLICT_OVERLAP");
+    }
+
+    @Benchmark
+    public RuntimeException conflictStackless() {
+        return new OverlapConflictException();
+    }
+
+    private static PSQLException psql(String sqlState, String constraint, String message) {
+        return new PSQLException(new ServerErrorMessage(
+                "SERROR\0C" + sqlState + "\0M" + message + "\0n" + constraint + "\0"));
+    }
+
+    private static DataIntegrityViolationException wrap(Throwable cause) {
+        return new DataIntegrityViolationException("could not execute statement", cause);
+    }
+}
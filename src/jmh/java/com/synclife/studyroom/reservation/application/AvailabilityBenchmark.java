@@ -0,0 +1,188 @@
+package com.synclife.studyroom.reservation.application;
+
+import com.synclife.studyroom.common.StudyroomMetrics;
+import com.synclife.studyroom.reservation.domain.ReservationRepository;
+import com.synclife.studyroom.reservation.domain.ReservationSlot;
+import com.synclife.studyroom.room.domain.Room;
+import com.synclife.studyroom.room.domain.RoomRepository;
+import com.synclife.studyroom.room.dto.AvailabilityFilter;
+import com.synclife.studyroom.room.dto.RoomAvailabilityResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReservationService.availability (인메모리 인덱스 경로)와 스윕 자체의 비용.
+ * DB 없이 저장소를 스텁으로 바꿔 합성 데이터로 인덱스를 워밍한다.
+ * - rooms   : 방 수
+ * - shape   : SPARSE(하루 2건) / DENSE(30분 단위로 꽉 참) / EDGE(자정 걸침, 맞닿음, 1분 간격)
+ * - filter  : 필터 없음 / 시각 창 + 최소 빈 시간
+ * ./gradlew jmh -Pjmh.includes=AvailabilityBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AvailabilityBenchmark {
+
+    static final LocalDate DATE = LocalDate.of(2026, 3, 2);
+    static final int DAYS_AROUND = 3;
+    static final Clock TODAY = Clock.fixed(DATE.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+
+    @Param({"50", "1000"})
+    public int rooms;
+
+    @Param({"SPARSE", "DENSE", "EDGE"})
+    public String shape;
+
+    @Param({"none", "window"})
+    public String filter;
+
+    private ReservationService service;
+    private AvailabilityFilter availabilityFilter;
+    private List<List<RoomAvailabilityResponse.ReservationWindow>> windowsByRoom;
+    private Instant dayStart, dayEnd;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        List<Room> roomList = new ArrayList<>(rooms);
+        Field id = Room.class.getDeclaredField("id");
+        id.setAccessible(true);
+        for (int r = 1; r <= rooms; r++) {
+            Room room = new Room("R" + r, (r % 5) + "F", 2 + r % 10);
+            id.set(room, (long) r);
+            roomList.add(room);
+        }
+
+        List<ReservationSlot> slots = new ArrayList<>();
+        Random random = new Random(42);
+        long nextId = 1;
+        for (int r = 1; r <= rooms; r++) {
+            for (int d = -DAYS_AROUND; d <= DAYS_AROUND; d++) {
+                Instant base = DATE.plusDays(d).atStartOfDay(ZoneOffset.UTC).toInstant();
+                for (Instant[] w : day(shape, base, random)) {
+                    slots.add(new ReservationSlot((long) r, nextId++, 1L + nextId % 100, w[0], w[1]));
+                }
+            }
+        }
+        // 인덱스는 방 안에서 예약이 겹치지 않는다고 가정하므로 (EXCLUDE 제약과 동일) 혹시 모를 겹침은 버린다
+        slots = dropOverlaps(slots);
+
+        ReservationIndex index = new ReservationIndex(
+                stub(ReservationRepository.class, "findAllOverlapping", slots),
+                stub(RoomRepository.class, "findAll", roomList),
+                true, DAYS_AROUND, TODAY);
+        index.warmUp();
+        service = new ReservationService(null, null, index, null, new AvailabilityVersions(), null, null, null, null, List.of(new UnusedEngine()),
+                null, null, new StudyroomMetrics(new SimpleMeterRegistry()), "sweep", 31, 200);
+
+        availabilityFilter = filter.equals("none") ? AvailabilityFilter.NONE
+                : new AvailabilityFilter(null, null, 60, LocalTime.of(9, 0), LocalTime.of(18, 0));
+
+        dayStart = DATE.atStartOfDay(ZoneOffset.UTC).toInstant();
+        dayEnd = dayStart.plus(Duration.ofDays(1));
+        windowsByRoom = new ArrayList<>(rooms);
+        Map<Long, List<RoomAvailabilityResponse.ReservationWindow>> grouped = new TreeMap<>();
+        for (ReservationSlot s : slots) {
+            if (s.endAt().isAfter(dayStart) && s.startAt().isBefore(dayEnd)) {
+                grouped.computeIfAbsent(s.roomId(), k -> new ArrayList<>())
+                        .add(new RoomAvailabilityResponse.ReservationWindow(s.id(), s.userId(), s.startAt(), s.endAt()));
+            }
+        }
+        for (int r = 1; r <= rooms; r++) {
+            List<RoomAvailabilityResponse.ReservationWindow> list = grouped.getOrDefault((long) r, new ArrayList<>());
+            list.sort(Comparator.comparing(RoomAvailabilityResponse.ReservationWindow::startAt));
+            windowsByRoom.add(list);
+        }
+    }
+
+    /** 서비스 진입점 (인덱스 준비됨 → DB 접근 없음) */
+    @Benchmark
+    public List<RoomAvailabilityResponse> serviceAvailability() {
+        return service.availability(DATE, availabilityFilter);
+    }
+
+    /** 조회 결과를 이미 방별로 모아 둔 상태에서의 스윕만 (DB 경로의 CPU 부분) */
+    @Benchmark
+    public List<RoomAvailabilityResponse> sweepOnly() {
+        List<RoomAvailabilityResponse> out = new ArrayList<>(rooms);
+        for (int r = 0; r < rooms; r++) {
+            out.add(AvailabilitySweep.sweep((long) r + 1, "R", "1F", 4, windowsByRoom.get(r), dayStart, dayEnd));
+        }
+        return out;
+    }
+
+    static List<Instant[]> day(String shape, Instant base, Random random) {
+        List<Instant[]> out = new ArrayList<>();
+        switch (shape) {
+            case "SPARSE" -> {
+                int h1 = random.nextInt(11), h2 = 12 + random.nextInt(11);
+                out.add(hours(base, h1, 1));
+                out.add(hours(base, h2, 1));
+            }
+            case "DENSE" -> {
+                for (int m = 0; m < 24 * 60; m += 30) {
+                    Instant s = base.plus(Duration.ofMinutes(m));
+                    out.add(new Instant[]{s, s.plus(Duration.ofMinutes(30))});
+                }
+            }
+            default -> {
+                // 자정 직전 시작 → 다음 날로 넘어감, 창 경계(09:00/18:00)에 맞닿음, 1분 간격, 맞닿은 연속 예약
+                out.add(new Instant[]{base.plus(Duration.ofMinutes(23 * 60 + 30)), base.plus(Duration.ofMinutes(24 * 60 + 30))});
+                out.add(hours(base, 8, 1));
+                out.add(hours(base, 18, 1));
+                for (int k = 0; k < 6; k++) {
+                    Instant s = base.plus(Duration.ofMinutes(11 * 60 + k * 31));
+                    out.add(new Instant[]{s, s.plus(Duration.ofMinutes(30))});
+                }
+                out.add(hours(base, 15, 1));
+                out.add(hours(base, 16, 1));
+            }
+        }
+        return out;
+    }
+
+    private static Instant[] hours(Instant base, int hour, int length) {
+        Instant s = base.plus(Duration.ofHours(hour));
+        return new Instant[]{s, s.plus(Duration.ofHours(length))};
+    }
+
+    static List<ReservationSlot> dropOverlaps(List<ReservationSlot> slots) {
+        List<ReservationSlot> sorted = new ArrayList<>(slots);
+        sorted.sort(Comparator.comparing(ReservationSlot::roomId).thenComparing(ReservationSlot::startAt));
+        List<ReservationSlot> out = new ArrayList<>(sorted.size());
+        ReservationSlot prev = null;
+        for (ReservationSlot s : sorted) {
+            if (prev != null && prev.roomId().equals(s.roomId()) && s.startAt().isBefore(prev.endAt())) continue;
+            out.add(s);
+            prev = s;
+        }
+        return out;
+    }
+
+    static <T> T stub(Class<T> type, String method, Object result) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, m, args) -> {
+            if (m.getName().equals(method)) return result;
+            throw new UnsupportedOperationException(m.getName());
+        }));
+    }
+
+    /** 인덱스가 준비되어 있으므로 호출되지 않는다 */
+    private static final class UnusedEngine implements AvailabilityEngine {
+        @Override public String name() { return "sweep"; }
+
+        @Override
+        public List<RoomAvailabilityResponse> availability(LocalDate dateUtc, AvailabilityFilter filter) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
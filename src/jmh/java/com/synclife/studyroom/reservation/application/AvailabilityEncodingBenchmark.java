@@ -0,0 +1,117 @@
+package com.synclife.studyroom.reservation.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.synclife.studyroom.reservation.domain.ReservationRepository;
+import com.synclife.studyroom.reservation.domain.ReservationSlot;
+import com.synclife.studyroom.room.domain.Room;
+import com.synclife.studyroom.room.domain.RoomRepository;
+import com.synclife.studyroom.room.dto.AvailabilityFilter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import static com.synclife.studyroom.reservation.application.AvailabilityBenchmark.*;
+
+/**
+ * GET /rooms 의 JSON 표현과 키오스크용 바이너리 표현(AvailabilityBinaryEncoder)의 인코딩 비용.
+ * 둘 다 워밍된 인덱스에서 출발한다 (JSON은 DTO 목록 생성 + Jackson, 바이너리는 배열에서 바로 인코딩).
+ * 응답 크기(원본/gzip)는 @Setup에서 한 번 출력한다.
+ * ./gradlew jmh -Pjmh.includes=AvailabilityEncodingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AvailabilityEncodingBenchmark {
+
+    @Param({"50", "1000"})
+    public int rooms;
+
+    @Param({"SPARSE", "DENSE", "EDGE"})
+    public String shape;
+
+    private ReservationIndex index;
+    private ObjectMapper objectMapper;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1 << 20);
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException, IOException {
+        List<Room> roomList = new ArrayList<>(rooms);
+        Field id = Room.class.getDeclaredField("id");
+        id.setAccessible(true);
+        for (int r = 1; r <= rooms; r++) {
+            Room room = new Room("R" + r, (r % 5) + "F", 2 + r % 10);
+            id.set(room, (long) r);
+            roomList.add(room);
+        }
+        List<ReservationSlot> slots = new ArrayList<>();
+        Random random = new Random(42);
+        long nextId = 1;
+        for (int r = 1; r <= rooms; r++) {
+            for (int d = -DAYS_AROUND; d <= DAYS_AROUND; d++) {
+                Instant base = DATE.plusDays(d).atStartOfDay(ZoneOffset.UTC).toInstant();
+                for (Instant[] w : day(shape, base, random)) {
+                    slots.add(new ReservationSlot((long) r, nextId++, 1L + nextId % 100, w[0], w[1]));
+                }
+            }
+        }
+        index = new ReservationIndex(
+                stub(ReservationRepository.class, "findAllOverlapping", dropOverlaps(slots)),
+                stub(RoomRepository.class, "findAll", roomList),
+                true, DAYS_AROUND, TODAY);
+        index.warmUp();
+
+        // 스프링 기본 설정과 같게: ISO-8601 문자열 시각
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        byte[] json = json();
+        byte[] full = binary(true);
+        byte[] compact = binary(false);
+        System.out.printf("%nsize rooms=%d shape=%s: json=%d (gzip %d), binary=%d (gzip %d), binary without dictionary=%d (gzip %d)%n",
+                rooms, shape, json.length, gzip(json), full.length, gzip(full), compact.length, gzip(compact));
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        buffer.reset();
+        objectMapper.writeValue(buffer, index.availability(DATE, AvailabilityFilter.NONE));
+        return buffer.toByteArray();
+    }
+
+    /** 방 사전 포함 (첫 요청) */
+    @Benchmark
+    public byte[] binaryWithDictionary() throws IOException {
+        return binary(true);
+    }
+
+    /** roomDictionary 토큰이 맞아 사전을 생략한 경우 (이후 요청) */
+    @Benchmark
+    public byte[] binary() throws IOException {
+        return binary(false);
+    }
+
+    private byte[] binary(boolean dictionary) throws IOException {
+        buffer.reset();
+        index.writeBinary(DATE, AvailabilityFilter.NONE, dictionary, buffer);
+        return buffer.toByteArray();
+    }
+
+    private static int gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(bytes);
+        }
+        return out.size();
+    }
+}
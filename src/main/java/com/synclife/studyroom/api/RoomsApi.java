@@ -3,6 +3,7 @@ package com.synclife.studyroom.api;
 import com.synclife.studyroom.room.dto.CreateRoomRequest;
 import com.synclife.studyroom.room.dto.RoomAvailabilityResponse;
 import com.synclife.studyroom.room.dto.RoomResponse;
+import com.synclife.studyroom.room.dto.RoomSlotMatch;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.*;
@@ -10,8 +11,15 @@ import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.*;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 public interface RoomsApi {
@@ -81,7 +89,10 @@ public interface RoomsApi {
 
     @Operation(
             summary = "가용성 조회",
-            description = "`date`는 **UTC 날짜**입니다. 해당 일자 `[00:00Z, 24:00Z)`의 예약/빈 슬롯을 반환합니다."
+            description = "`date`는 **UTC 날짜**입니다. 해당 일자 `[00:00Z, 24:00Z)`의 예약/빈 슬롯을 반환합니다. "
+                    + "`location`/`minCapacity`로 방을 거르고, `fromTime`~`toTime`(UTC, HH:mm) 창으로 잘라서 보며, "
+                    + "`minFreeMinutes`를 주면 그 이상 연속으로 빈 슬롯이 있는 방만 반환합니다. "
+                    + "응답의 `ETag`를 `If-None-Match`로 보내면 변경이 없을 때 304를 받습니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
@@ -108,6 +119,9 @@ public interface RoomsApi {
                             )
                     )
             ),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)",
+                    content = @Content(schema = @Schema(hidden = true))
+            ),
             @ApiResponse(responseCode = "400", description = "잘못된 날짜 형식",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = com.synclife.studyroom.common.ErrorResponse.class),
@@ -119,8 +133,226 @@ public interface RoomsApi {
                     )
             )
     })
-    List<RoomAvailabilityResponse> availability(
+    ResponseEntity<byte[]> availability(
+            @Parameter(example = "2025-09-26", description = "UTC 기준 날짜 (YYYY-MM-DD)")
+            LocalDate date,
+            @Parameter(example = "3F", description = "위치 (정확히 일치)")
+            String location,
+            @Parameter(example = "6", description = "최소 수용 인원")
+            Integer minCapacity,
+            @Parameter(example = "120", description = "최소 연속 빈 시간(분)")
+            Integer minFreeMinutes,
+            @Parameter(example = "09:00", description = "UTC 시각 창 시작 (HH:mm)")
+            LocalTime fromTime,
+            @Parameter(example = "18:00", description = "UTC 시각 창 끝 (HH:mm, 없으면 24:00)")
+            LocalTime toTime,
+            @Parameter(hidden = true)
+            WebRequest request
+    );
+
+    @Operation(
+            summary = "가용성 조회 (키오스크용 바이너리)",
+            description = "`GET /rooms`와 같은 조회를 `Accept: application/vnd.studyroom.availability`로 요청하면 "
+                    + "JSON 대신 압축 바이너리로 받습니다. 시각은 epoch 초 델타, 정수는 varint이며 형식은 "
+                    + "`AvailabilityBinaryEncoder` 문서를 따릅니다. 응답의 `X-Room-Dictionary` 값을 `roomDictionary`로 보내면 "
+                    + "방 등록이 없는 한 방 사전(이름/위치/수용 인원)을 생략합니다. 오류(400)는 JSON으로 오므로 "
+                    + "`Accept`에 `application/json;q=0.5`를 함께 넣으세요. ETag/304는 JSON과 같습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/vnd.studyroom.availability",
+                            schema = @Schema(type = "string", format = "binary"))
+            ),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)",
+                    content = @Content(schema = @Schema(hidden = true))
+            )
+    })
+    void availabilityBinary(
+            @Parameter(example = "2025-09-26", description = "UTC 기준 날짜 (YYYY-MM-DD)")
+            LocalDate date,
+            @Parameter(example = "3F", description = "위치 (정확히 일치)")
+            String location,
+            @Parameter(example = "6", description = "최소 수용 인원")
+            Integer minCapacity,
+            @Parameter(example = "120", description = "최소 연속 빈 시간(분)")
+            Integer minFreeMinutes,
+            @Parameter(example = "09:00", description = "UTC 시각 창 시작 (HH:mm)")
+            LocalTime fromTime,
+            @Parameter(example = "18:00", description = "UTC 시각 창 끝 (HH:mm, 없으면 24:00)")
+            LocalTime toTime,
+            @Parameter(description = "이미 가진 방 사전 버전 (직전 응답의 X-Room-Dictionary)")
+            String roomDictionary,
+            @Parameter(hidden = true)
+            WebRequest request,
+            @Parameter(hidden = true)
+            HttpServletResponse response
+    ) throws IOException;
+
+    @Operation(
+            summary = "시각 창이 통째로 빈 방 검색",
+            description = "`date`(UTC)의 `fromTime`~`toTime`(UTC, HH:mm) 동안 예약이 하나도 없는 방을 방 id 순으로 반환합니다. "
+                    + "`location`/`minCapacity`로 방을 거릅니다. 방·날짜별 점유 비트맵(기본 5분 칸)으로 판정하며, "
+                    + "칸 경계에 걸친 경우만 정확한 예약 구간으로 다시 확인합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = RoomResponse.class)),
+                            examples = @ExampleObject(
+                                    value = """
+                  [
+                    { "id": 1, "name": "A", "location": "1F", "capacity": 4 },
+                    { "id": 3, "name": "C", "location": "3F", "capacity": 8 }
+                  ]
+                  """
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 시각 창",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = com.synclife.studyroom.common.ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    value = """
+                  { "code":"BAD_REQUEST", "message":"fromTime < toTime" }
+                  """
+                            )
+                    )
+            )
+    })
+    List<RoomResponse> freeRooms(
+            @Parameter(example = "2025-09-26", description = "UTC 기준 날짜 (YYYY-MM-DD)")
+            LocalDate date,
+            @Parameter(example = "14:00", description = "UTC 시각 창 시작 (HH:mm)")
+            LocalTime fromTime,
+            @Parameter(example = "16:00", description = "UTC 시각 창 끝 (HH:mm)")
+            LocalTime toTime,
+            @Parameter(example = "3F", description = "위치 (정확히 일치)")
+            String location,
+            @Parameter(example = "6", description = "최소 수용 인원")
+            Integer minCapacity
+    );
+
+    @Operation(
+            summary = "빈 방 찾기 (여러 날짜)",
+            description = "`date`(UTC)부터 `days`일 동안 매일 `fromTime`~`toTime`(UTC, HH:mm) 창 안에서 `minutes`분 이상 연속으로 빈 "
+                    + "(방, 빈 구간)을 시작이 이른 순으로 최대 `limit`개(기본 10, 최대 100) 반환합니다. "
+                    + "같은 시각이면 수용 인원이 작은 방(조건에 가장 꼭 맞는 방)이 먼저입니다. `location`/`minCapacity`로 방을 거르며, "
+                    + "`limit`개가 차면 남은 날짜는 조회하지 않습니다. 최대 일수는 `studyroom.availability.max-range-days`(기본 31일)."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = RoomSlotMatch.class)),
+                            examples = @ExampleObject(
+                                    value = """
+                  [
+                    { "roomId": 2, "name": "B", "location": "3F", "capacity": 6, "startAt": "2025-09-26T09:00:00Z", "endAt": "2025-09-26T12:00:00Z" },
+                    { "roomId": 1, "name": "A", "location": "3F", "capacity": 8, "startAt": "2025-09-26T10:00:00Z", "endAt": "2025-09-26T18:00:00Z" }
+                  ]
+                  """
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 검색 조건",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = com.synclife.studyroom.common.ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    value = """
+                  { "code":"BAD_REQUEST", "message":"range must be at most 31 days" }
+                  """
+                            )
+                    )
+            )
+    })
+    List<RoomSlotMatch> search(
+            @Parameter(example = "2025-09-26", description = "UTC 기준 시작 날짜 (YYYY-MM-DD)")
+            LocalDate date,
+            @Parameter(example = "7", description = "검색할 일수 (기본 1)")
+            int days,
+            @Parameter(example = "120", description = "필요한 최소 연속 빈 시간(분)")
+            int minutes,
+            @Parameter(example = "09:00", description = "UTC 시각 창 시작 (HH:mm)")
+            LocalTime fromTime,
+            @Parameter(example = "18:00", description = "UTC 시각 창 끝 (HH:mm, 없으면 24:00)")
+            LocalTime toTime,
+            @Parameter(example = "3F", description = "위치 (정확히 일치)")
+            String location,
+            @Parameter(example = "6", description = "최소 수용 인원")
+            Integer minCapacity,
+            @Parameter(example = "10", description = "최대 결과 수 (기본 10, 최대 100)")
+            int limit
+    );
+
+    @Operation(
+            summary = "기간 가용성 조회 (스트리밍)",
+            description = "`from`~`to`(UTC 날짜, 양끝 포함) 구간을 방 id → 일자 순으로 한 줄에 하나씩 NDJSON으로 흘려보냅니다. "
+                    + "최대 일수는 `studyroom.availability.max-range-days`(기본 31일)."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/x-ndjson",
+                            schema = @Schema(implementation = com.synclife.studyroom.room.dto.DailyRoomAvailabilityResponse.class),
+                            examples = @ExampleObject(
+                                    value = """
+                  {"date":"2025-09-26","roomId":1,"name":"A","location":"1F","capacity":4,"reservations":[],"freeSlots":[{"startAt":"2025-09-26T00:00:00Z","endAt":"2025-09-27T00:00:00Z"}]}
+                  {"date":"2025-09-27","roomId":1,"name":"A","location":"1F","capacity":4,"reservations":[],"freeSlots":[{"startAt":"2025-09-27T00:00:00Z","endAt":"2025-09-28T00:00:00Z"}]}
+                  """
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = com.synclife.studyroom.common.ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    value = """
+                  { "code":"BAD_REQUEST", "message":"range must be at most 31 days" }
+                  """
+                            )
+                    )
+            )
+    })
+    ResponseEntity<StreamingResponseBody> availabilityRange(
+            @Parameter(example = "2025-09-22", description = "UTC 기준 시작 날짜 (YYYY-MM-DD)")
+            LocalDate from,
+            @Parameter(example = "2025-09-28", description = "UTC 기준 종료 날짜 (YYYY-MM-DD, 포함)")
+            LocalDate to
+    );
+
+    @Operation(
+            summary = "가용성 변경 구독 (SSE)",
+            description = "`date`(UTC)에 예약이 추가/취소되어 커밋될 때마다 `change` 이벤트로 해당 예약과 그 방의 재계산된 빈 슬롯을 보냅니다. "
+                    + "재접속 시 `Last-Event-ID` 헤더를 보내면 이후 변경을 이어서 받습니다. "
+                    + "보관 범위를 벗어난 id면 `reset` 이벤트가 오며, 이때는 `GET /rooms`로 다시 조회해야 합니다. "
+                    + "전송이 밀리는 구독자는 연결이 끊기므로 Last-Event-ID로 재접속하세요."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "구독 시작",
+                    content = @Content(mediaType = "text/event-stream",
+                            schema = @Schema(implementation = com.synclife.studyroom.room.dto.AvailabilityChange.class),
+                            examples = @ExampleObject(
+                                    value = """
+                  event:change
+                  id:1760745600000001
+                  data:{"id":1760745600000001,"type":"ADDED","date":"2025-09-26","roomId":1,"reservation":{"id":10,"userId":1,"startAt":"2025-09-26T09:00:00Z","endAt":"2025-09-26T10:00:00Z"},"freeSlots":[{"startAt":"2025-09-26T00:00:00Z","endAt":"2025-09-26T09:00:00Z"},{"startAt":"2025-09-26T10:00:00Z","endAt":"2025-09-27T00:00:00Z"}]}
+                  """
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "503", description = "구독자 수 상한 초과",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = com.synclife.studyroom.common.ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    value = """
+                  { "code":"UNAVAILABLE", "message":"구독자가 너무 많습니다. 잠시 후 다시 시도하세요." }
+                  """
+                            )
+                    )
+            )
+    })
+    SseEmitter changes(
             @Parameter(example = "2025-09-26", description = "UTC 기준 날짜 (YYYY-MM-DD)")
-            LocalDate date
+            LocalDate date,
+            @Parameter(description = "마지막으로 받은 이벤트 id (재접속 시)")
+            Long lastEventId
     );
 }
@@ -1,42 +1,92 @@
 package com.synclife.studyroom.auth;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
-import org.springframework.stereotype.Component;
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
 
-@Component
+/**
+ * Authorization 헤더 → AuthContext. API 경로에만 등록된다 (AuthFilterConfig, 문서 경로는 거치지 않음).
+ * - 토큰 검증은 {@link TokenVerifier}에 위임한다 (simple | hmac)
+ * - 검증 결과는 헤더 값 기준으로 캐시하며, 항목 수명은 min(토큰 만료까지 남은 시간, 최대 TTL)이다.
+ *   같은 토큰의 반복 요청은 서명 검증 없이 캐시 조회만 한다. 실패한 토큰은 캐시하지 않는다.
+ */
 public class AuthFilter implements Filter {
     public static final String ATTR = "AUTH_CTX";
 
+    private static final String BEARER = "Bearer ";
+
+    private final TokenVerifier verifier;
+    private final Cache<String, TokenVerifier.Verified> cache;
+
+    public AuthFilter(TokenVerifier verifier, long cacheSize, Duration maxTtl, Clock clock) {
+        this(verifier, cacheSize, maxTtl, clock, Ticker.systemTicker());
+    }
+
+    /** 테스트에서 토큰 만료(clock)와 캐시 만료(ticker)를 같은 가짜 시간으로 움직이기 위한 생성자 */
+    AuthFilter(TokenVerifier verifier, long cacheSize, Duration maxTtl, Clock clock, Ticker ticker) {
+        this.verifier = verifier;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new TokenExpiry(maxTtl.toNanos(), clock))
+                .ticker(ticker)
+                .build();
+    }
+
     @Override
     public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain)
             throws IOException, ServletException {
         HttpServletRequest http = (HttpServletRequest) req;
 
-        String uri = http.getRequestURI();
-        if (uri.startsWith("/v3/api-docs") || uri.startsWith("/swagger-ui") || uri.equals("/swagger-ui.html") || uri.startsWith("/docs")) {
-            chain.doFilter(req, res);
-            return;
-        }
-
-        AuthContext ctx = parse(http.getHeader("Authorization"));
+        AuthContext ctx = resolve(http.getHeader("Authorization"));
         if (ctx != null) http.setAttribute(ATTR, ctx);
         else http.removeAttribute(ATTR);
 
         chain.doFilter(req, res);
     }
 
-    private AuthContext parse(String header) {
-        if (header == null || !header.startsWith("Bearer ")) return null;
-        String token = header.substring(7).trim();
-        if ("admin-token".equals(token)) return new AuthContext(Role.ADMIN, null);
-        if (token.startsWith("user-token-")) {
-            try {
-                long uid = Long.parseLong(token.substring("user-token-".length()));
-                return new AuthContext(Role.USER, uid);
-            } catch (NumberFormatException ignore) {}
+    AuthContext resolve(String header) {
+        if (header == null) return null;
+        TokenVerifier.Verified cached = cache.getIfPresent(header);
+        if (cached != null) return cached.context();
+
+        String token = bearerToken(header);
+        TokenVerifier.Verified verified = token == null ? null : verifier.verify(token);
+        if (verified == null) return null;
+        cache.put(header, verified);
+        return verified.context();
+    }
+
+    /** "Bearer " 뒤의 토큰 (앞뒤 공백 제거), 없으면 null */
+    static String bearerToken(String header) {
+        if (header == null || !header.startsWith(BEARER)) return null;
+        int from = BEARER.length(), to = header.length();
+        while (from < to && header.charAt(from) <= ' ') from++;
+        while (to > from && header.charAt(to - 1) <= ' ') to--;
+        return from == to ? null : header.substring(from, to);
+    }
+
+    private record TokenExpiry(long maxTtlNanos, Clock clock) implements Expiry<String, TokenVerifier.Verified> {
+        @Override
+        public long expireAfterCreate(String key, TokenVerifier.Verified value, long currentTime) {
+            if (value.expiresAt() == null) return maxTtlNanos;
+            long remaining = Duration.between(clock.instant(), value.expiresAt()).toNanos();
+            return Math.max(0, Math.min(maxTtlNanos, remaining));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenVerifier.Verified value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenVerifier.Verified value, long currentTime, long currentDuration) {
+            return currentDuration;
         }
-        return null;
     }
 }
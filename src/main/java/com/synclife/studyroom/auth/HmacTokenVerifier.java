@@ -0,0 +1,114 @@
+package com.synclife.studyroom.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * HS256 서명 JWT 검증 (외부 라이브러리 없이 JDK Mac 사용).
+ * - header.alg = HS256 만 허용 (alg 혼동 방지)
+ * - claims: role(ADMIN|USER), sub(USER면 숫자 userId), exp(필수, epoch 초), nbf(선택), iss(설정 시 일치)
+ * - 서명 비교는 상수 시간(MessageDigest.isEqual)
+ */
+public class HmacTokenVerifier implements TokenVerifier {
+
+    private static final Base64.Decoder B64 = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final String issuer;
+    private final Duration leeway;
+    private final Clock clock;
+    private final ObjectMapper objectMapper;
+    private final Mac prototype;
+
+    public HmacTokenVerifier(byte[] secret, String issuer, Duration leeway, Clock clock, ObjectMapper objectMapper) {
+        if (secret.length < 32) throw new IllegalArgumentException("HMAC secret must be at least 32 bytes");
+        this.key = new SecretKeySpec(secret, "HmacSHA256");
+        this.issuer = issuer;
+        this.leeway = leeway;
+        this.clock = clock;
+        this.objectMapper = objectMapper;
+        try {
+            this.prototype = Mac.getInstance("HmacSHA256");
+            this.prototype.init(key);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public Verified verify(String token) {
+        if (token == null) return null;
+        int first = token.indexOf('.');
+        int second = first < 0 ? -1 : token.indexOf('.', first + 1);
+        if (second < 0 || token.indexOf('.', second + 1) >= 0) return null;
+
+        try {
+            byte[] expected = mac().doFinal(token.substring(0, second).getBytes(StandardCharsets.US_ASCII));
+            if (!MessageDigest.isEqual(expected, B64.decode(token.substring(second + 1)))) return null;
+
+            JsonNode header = objectMapper.readTree(B64.decode(token.substring(0, first)));
+            if (!"HS256".equals(header.path("alg").asText())) return null;
+            JsonNode claims = objectMapper.readTree(B64.decode(token.substring(first + 1, second)));
+            return verified(claims);
+        } catch (IllegalArgumentException | java.io.IOException e) {
+            // base64/JSON 형식 오류
+            return null;
+        }
+    }
+
+    private Verified verified(JsonNode claims) {
+        Instant now = clock.instant();
+        if (!claims.path("exp").canConvertToLong()) return null;
+        Instant exp = Instant.ofEpochSecond(claims.get("exp").asLong());
+        if (!now.isBefore(exp.plus(leeway))) return null;
+        if (claims.has("nbf") && now.plus(leeway).isBefore(Instant.ofEpochSecond(claims.get("nbf").asLong()))) return null;
+        if (issuer != null && !issuer.equals(claims.path("iss").asText(null))) return null;
+
+        String role = claims.path("role").asText("");
+        if (role.equals("ADMIN")) return new Verified(new AuthContext(Role.ADMIN, null), exp);
+        if (role.equals("USER")) {
+            String sub = claims.path("sub").asText("");
+            try {
+                long uid = Long.parseLong(sub);
+                if (uid < 0) return null;
+                return new Verified(new AuthContext(Role.USER, uid), exp);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /** 서명 발급 (테스트/운영 도구용). claimsJson은 직렬화된 claims 객체 */
+    public String sign(String claimsJson) {
+        Base64.Encoder enc = Base64.getUrlEncoder().withoutPadding();
+        String signingInput = enc.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8))
+                + "." + enc.encodeToString(claimsJson.getBytes(StandardCharsets.UTF_8));
+        return signingInput + "." + enc.encodeToString(mac().doFinal(signingInput.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    // Mac은 스레드 안전하지 않다. 가상 스레드에서는 ThreadLocal이 재사용되지 않으므로 초기화된 원본을 복제한다.
+    private Mac mac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.synclife.studyroom.auth;
+
+/**
+ * ADR-002의 간단 토큰: admin-token → ADMIN, user-token-&lt;id&gt; → USER.
+ * 토큰 문자열을 제자리에서 훑어 파싱하므로 검증 결과 외의 할당이 없다.
+ */
+public class SimpleTokenVerifier implements TokenVerifier {
+
+    private static final String ADMIN_TOKEN = "admin-token";
+    private static final String USER_PREFIX = "user-token-";
+    private static final Verified ADMIN = new Verified(new AuthContext(Role.ADMIN, null), null);
+
+    @Override
+    public Verified verify(String token) {
+        if (token == null) return null;
+        if (token.equals(ADMIN_TOKEN)) return ADMIN;
+        long uid = userId(token);
+        return uid < 0 ? null : new Verified(new AuthContext(Role.USER, uid), null);
+    }
+
+    /** "user-token-<숫자>"이면 그 숫자, 아니면(부호, 비숫자, long 범위 초과) -1 */
+    private static long userId(String s) {
+        if (s.length() <= USER_PREFIX.length() || !s.startsWith(USER_PREFIX)) return -1;
+        long v = 0;
+        for (int i = USER_PREFIX.length(); i < s.length(); i++) {
+            int d = s.charAt(i) - '0';
+            if (d < 0 || d > 9) return -1;
+            if (v > (Long.MAX_VALUE - d) / 10) return -1;
+            v = v * 10 + d;
+        }
+        return v;
+    }
+}
@@ -0,0 +1,18 @@
+package com.synclife.studyroom.auth;
+
+import java.time.Instant;
+
+/**
+ * Bearer 토큰 검증 SPI. AuthFilter가 "Bearer " 뒤의 토큰만 넘긴다.
+ * 구현은 studyroom.auth.mode로 고른다 (simple | hmac, AuthFilterConfig).
+ */
+public interface TokenVerifier {
+
+    /** 유효하면 검증 결과, 아니면 null (형식 오류/서명 불일치/만료 모두 null) */
+    Verified verify(String token);
+
+    /**
+     * @param expiresAt 토큰 만료 시각. null이면 만료 없음 (AuthFilter 캐시는 최대 TTL만 적용)
+     */
+    record Verified(AuthContext context, Instant expiresAt) {}
+}
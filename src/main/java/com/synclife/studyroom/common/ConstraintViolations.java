@@ -0,0 +1,61 @@
+package com.synclife.studyroom.common;
+
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+
+/**
+ * 영속성 예외를 SQLSTATE와 제약명으로 분류한다. 메시지 문자열은 보지 않는다.
+ * 원인 체인에서 처음 만나는 SQLException(배치면 그 next exception)을 기준으로 한다.
+ */
+public final class ConstraintViolations {
+
+    private static final int MAX_DEPTH = 16;
+
+    public enum Kind { EXCLUSION, FOREIGN_KEY, CHECK, UNIQUE, NOT_NULL, OTHER }
+
+    /** constraint는 서버가 알려 준 제약명 (PostgreSQL 외 드라이버거나 없으면 null) */
+    public record Violation(Kind kind, String constraint) {
+        public boolean is(Kind kind, String constraint) {
+            return this.kind == kind && (this.constraint == null || this.constraint.equals(constraint));
+        }
+    }
+
+    private static final Violation UNKNOWN = new Violation(Kind.OTHER, null);
+
+    private ConstraintViolations() {}
+
+    public static Violation classify(Throwable e) {
+        SQLException sql = sqlException(e);
+        if (sql == null || sql.getSQLState() == null) return UNKNOWN;
+
+        Kind kind = switch (sql.getSQLState()) {
+            case "23P01" -> Kind.EXCLUSION;
+            case "23503" -> Kind.FOREIGN_KEY;
+            case "23514" -> Kind.CHECK;
+            case "23505" -> Kind.UNIQUE;
+            case "23502" -> Kind.NOT_NULL;
+            default -> Kind.OTHER;
+        };
+        return new Violation(kind, constraint(sql));
+    }
+
+    private static SQLException sqlException(Throwable e) {
+        Throwable t = e;
+        for (int depth = 0; t != null && depth < MAX_DEPTH; depth++, t = t.getCause()) {
+            if (t instanceof BatchUpdateException b && b.getNextException() != null) return b.getNextException();
+            if (t instanceof SQLException sql) return sql;
+        }
+        return null;
+    }
+
+    private static String constraint(SQLException sql) {
+        if (sql instanceof PSQLException p) {
+            ServerErrorMessage m = p.getServerErrorMessage();
+            if (m != null) return m.getConstraint();
+        }
+        return null;
+    }
+}
@@ -1,6 +1,7 @@
 package com.synclife.studyroom.common;
 
 import org.springframework.http.*;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.NoSuchElementException;
@@ -8,17 +9,29 @@ import java.util.NoSuchElementException;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // 자주 나가는 고정 응답은 미리 만들어 둔다 (본문/헤더 모두 불변)
+    private static final ResponseEntity<ErrorResponse> UNAUTHORIZED = ResponseEntity.status(401)
+            .body(new ErrorResponse("UNAUTHORIZED","로그인이 필요합니다."));
+    private static final ResponseEntity<ErrorResponse> FORBIDDEN = ResponseEntity.status(403)
+            .body(new ErrorResponse("FORBIDDEN","권한이 없습니다."));
+    private static final ResponseEntity<ErrorResponse> FORBIDDEN_RESERVATION_REQUIRES_USER = ResponseEntity.status(403)
+            .body(new ErrorResponse("FORBIDDEN","예약 생성은 사용자만 가능합니다."));
+    private static final ResponseEntity<ErrorResponse> OVERLAP = ResponseEntity.status(409)
+            .body(new ErrorResponse("OVERLAP","요청 시간대가 기존 예약과 겹칩니다."));
+    private static final ResponseEntity<ErrorResponse> TOO_MANY_SUBSCRIBERS = ResponseEntity.status(503)
+            .body(new ErrorResponse("UNAVAILABLE","구독자가 너무 많습니다. 잠시 후 다시 시도하세요."));
+    private static final ResponseEntity<ErrorResponse> WRITE_QUEUE_BUSY = ResponseEntity.status(503)
+            .body(new ErrorResponse("UNAVAILABLE","예약 요청이 몰리고 있습니다. 잠시 후 다시 시도하세요."));
+    private static final ResponseEntity<ErrorResponse> POOL_EXHAUSTED = ResponseEntity.status(503)
+            .body(new ErrorResponse("UNAVAILABLE","잠시 후 다시 시도하세요."));
+
     @ExceptionHandler(SecurityException.class)
     public ResponseEntity<?> sec(SecurityException e) {
         return switch (e.getMessage()) {
-            case "UNAUTHORIZED" -> ResponseEntity.status(401)
-                    .body(new ErrorResponse("UNAUTHORIZED","로그인이 필요합니다."));
-            case "FORBIDDEN" -> ResponseEntity.status(403)
-                    .body(new ErrorResponse("FORBIDDEN","권한이 없습니다."));
-            case "FORBIDDEN_RESERVATION_REQUIRES_USER" -> ResponseEntity.status(403)
-                    .body(new ErrorResponse("FORBIDDEN","예약 생성은 사용자만 가능합니다."));
-            default -> ResponseEntity.status(403)
-                    .body(new ErrorResponse("FORBIDDEN","권한이 없습니다."));
+            case "UNAUTHORIZED" -> UNAUTHORIZED;
+            case "FORBIDDEN" -> FORBIDDEN;
+            case "FORBIDDEN_RESERVATION_REQUIRES_USER" -> FORBIDDEN_RESERVATION_REQUIRES_USER;
+            default -> FORBIDDEN;
         };
     }
 
@@ -27,10 +40,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(400).body(new ErrorResponse("BAD_REQUEST", e.getMessage()));
     }
 
+    // 경합 시 가장 많이 나가는 응답: 예외도 스택 트레이스 없이 만들어진다
+    @ExceptionHandler(OverlapConflictException.class)
+    public ResponseEntity<?> overlap(OverlapConflictException e) {
+        return OVERLAP;
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<?> conflict(IllegalStateException e) {
-        if ("CONFLICT_OVERLAP".equals(e.getMessage()))
-            return ResponseEntity.status(409).body(new ErrorResponse("OVERLAP","요청 시간대가 기존 예약과 겹칩니다."));
+        if ("CONFLICT_OVERLAP".equals(e.getMessage())) return OVERLAP;
+        if ("TOO_MANY_SUBSCRIBERS".equals(e.getMessage())) return TOO_MANY_SUBSCRIBERS;
+        if ("WRITE_QUEUE_BUSY".equals(e.getMessage())) return WRITE_QUEUE_BUSY;
         return ResponseEntity.status(409).body(new ErrorResponse("CONFLICT", e.getMessage()));
     }
 
@@ -38,4 +58,10 @@ public class GlobalExceptionHandler {
     public ResponseEntity<?> notFound(NoSuchElementException e) {
         return ResponseEntity.status(404).body(new ErrorResponse("NOT_FOUND", e.getMessage()));
     }
+
+    // 커넥션 풀 대기 시간 초과 (가상 스레드 모드에서 풀보다 요청이 훨씬 많을 때)
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<?> unavailable(CannotCreateTransactionException e) {
+        return POOL_EXHAUSTED;
+    }
 }
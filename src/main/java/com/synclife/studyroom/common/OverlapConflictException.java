@@ -0,0 +1,17 @@
+package com.synclife.studyroom.common;
+
+/**
+ * 예약 시간대 겹침 (409 OVERLAP). 경합 시 가장 흔한 실패라 스택 트레이스를 만들지 않는다.
+ * 기존 처리와 맞도록 IllegalStateException("CONFLICT_OVERLAP")의 하위 타입이다.
+ */
+public class OverlapConflictException extends IllegalStateException {
+
+    public OverlapConflictException() {
+        super("CONFLICT_OVERLAP");
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
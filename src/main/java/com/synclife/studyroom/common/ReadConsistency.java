@@ -0,0 +1,53 @@
+package com.synclife.studyroom.common;
+
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션이 레플리카로 가도 되는지에 대한 현재 스레드의 요구 조건.
+ * 레플리카 라우팅(studyroom.datasource.replica.*)이 꺼져 있으면 아무 효과가 없다.
+ * - atLeast(t): 레플리카가 t 시점까지의 커밋을 반영했을 때만 레플리카, 아니면 프라이머리
+ * - primary(): 항상 프라이머리 (기동 시 인덱스 워밍처럼 최신이어야 하는 읽기)
+ */
+public final class ReadConsistency {
+
+    private static final ThreadLocal<Instant> REQUIRED = new ThreadLocal<>();
+
+    private ReadConsistency() {}
+
+    /** 현재 스레드가 요구하는 최소 반영 시점 (없으면 null, 프라이머리 고정이면 Instant.MAX) */
+    public static Instant required() {
+        return REQUIRED.get();
+    }
+
+    public static <T> T atLeast(Instant writtenAt, Supplier<T> body) {
+        Instant outer = REQUIRED.get();
+        if (writtenAt == null || (outer != null && !outer.isBefore(writtenAt))) return body.get();
+        REQUIRED.set(writtenAt);
+        try {
+            return body.get();
+        } finally {
+            if (outer == null) REQUIRED.remove();
+            else REQUIRED.set(outer);
+        }
+    }
+
+    public static void atLeast(Instant writtenAt, Runnable body) {
+        atLeast(writtenAt, () -> { body.run(); return null; });
+    }
+
+    public static <T> T primary(Supplier<T> body) {
+        return atLeast(Instant.MAX, body);
+    }
+
+    public static void primary(Runnable body) {
+        atLeast(Instant.MAX, body);
+    }
+
+    /** 둘 중 늦은 시점 (null은 요구 없음) */
+    public static Instant later(Instant a, Instant b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isAfter(b) ? a : b;
+    }
+}
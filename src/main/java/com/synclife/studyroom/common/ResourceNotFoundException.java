@@ -0,0 +1,16 @@
+package com.synclife.studyroom.common;
+
+import java.util.NoSuchElementException;
+
+/** 없는 방/예약 (404 NOT_FOUND). 예상된 실패이므로 스택 트레이스를 만들지 않는다. */
+public class ResourceNotFoundException extends NoSuchElementException {
+
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
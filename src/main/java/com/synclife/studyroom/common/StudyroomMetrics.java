@@ -0,0 +1,80 @@
+package com.synclife.studyroom.common;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+/**
+ * 서비스 계층 Micrometer 계측. 이름은 studyroom.* 로 통일하고 결과는 outcome 태그로 구분한다.
+ * outcome은 GlobalExceptionHandler가 응답 코드로 매핑하는 예외 종류와 1:1로 맞춘다.
+ */
+@Component
+public class StudyroomMetrics {
+
+    private final MeterRegistry registry;
+
+    public StudyroomMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /** body 실행 시간을 name 타이머에 기록한다. 예외는 outcome 태그만 달고 그대로 던진다. */
+    public <T> T timed(String name, String success, Supplier<T> body, String... tags) {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = success;
+        try {
+            return body.get();
+        } catch (RuntimeException e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(name).tags(tags).tag("outcome", outcome).register(registry));
+        }
+    }
+
+    public void timed(String name, String success, Runnable body, String... tags) {
+        timed(name, success, () -> { body.run(); return null; }, tags);
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    public void stop(Timer.Sample sample, String name, String... tags) {
+        sample.stop(Timer.builder(name).tags(tags).register(registry));
+    }
+
+    public void count(String name, String... tags) {
+        registry.counter(name, tags).increment();
+    }
+
+    public void count(String name, double amount, String... tags) {
+        registry.counter(name, tags).increment(amount);
+    }
+
+    public DistributionSummary summary(String name, String baseUnit, String... tags) {
+        return DistributionSummary.builder(name).baseUnit(baseUnit).tags(tags).register(registry);
+    }
+
+    public static String outcome(RuntimeException e) {
+        if (e instanceof SecurityException) {
+            return "UNAUTHORIZED".equals(e.getMessage()) ? "unauthorized" : "forbidden";
+        }
+        if (e instanceof OverlapConflictException) return "overlap";
+        if (e instanceof IllegalStateException) {
+            return switch (String.valueOf(e.getMessage())) {
+                case "CONFLICT_OVERLAP" -> "overlap";
+                case "TOO_MANY_SUBSCRIBERS", "WRITE_QUEUE_BUSY" -> "unavailable";   // 503
+                default -> "conflict";
+            };
+        }
+        if (e instanceof CannotCreateTransactionException) return "unavailable"; // 커넥션 풀 대기 초과 → 503
+        if (e instanceof NoSuchElementException) return "not_found";
+        if (e instanceof IllegalArgumentException) return "invalid";
+        return "error";
+    }
+}
@@ -0,0 +1,50 @@
+package com.synclife.studyroom.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synclife.studyroom.auth.AuthFilter;
+import com.synclife.studyroom.auth.HmacTokenVerifier;
+import com.synclife.studyroom.auth.SimpleTokenVerifier;
+import com.synclife.studyroom.auth.TokenVerifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+public class AuthFilterConfig {
+
+    // API 경로에만 등록: Swagger(/docs, /swagger-ui, /v3/api-docs)와 actuator는 필터를 거치지 않는다.
+    @Bean
+    public FilterRegistrationBean<AuthFilter> authFilter(
+            TokenVerifier verifier,
+            @Value("${studyroom.auth.cache.max-size:10000}") long cacheSize,
+            @Value("${studyroom.auth.cache.max-ttl:5m}") Duration maxTtl) {
+        AuthFilter filter = new AuthFilter(verifier, cacheSize, maxTtl, Clock.systemUTC());
+        FilterRegistrationBean<AuthFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/rooms", "/rooms/*", "/reservations", "/reservations/*");
+        return registration;
+    }
+
+    // ADR-002 간단 토큰 (기본값)
+    @Bean
+    @ConditionalOnProperty(name = "studyroom.auth.mode", havingValue = "simple", matchIfMissing = true)
+    public TokenVerifier simpleTokenVerifier() {
+        return new SimpleTokenVerifier();
+    }
+
+    // HS256 서명 토큰 (ADR-003)
+    @Bean
+    @ConditionalOnProperty(name = "studyroom.auth.mode", havingValue = "hmac")
+    public TokenVerifier hmacTokenVerifier(
+            ObjectMapper objectMapper,
+            @Value("${studyroom.auth.hmac.secret}") String secret,
+            @Value("${studyroom.auth.hmac.issuer:#{null}}") String issuer,
+            @Value("${studyroom.auth.hmac.leeway:30s}") Duration leeway) {
+        return new HmacTokenVerifier(secret.getBytes(StandardCharsets.UTF_8), issuer, leeway, Clock.systemUTC(), objectMapper);
+    }
+}
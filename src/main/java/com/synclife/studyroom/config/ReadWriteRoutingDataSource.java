@@ -0,0 +1,51 @@
+package com.synclife.studyroom.config;
+
+import com.synclife.studyroom.common.ReadConsistency;
+import com.synclife.studyroom.common.StudyroomMetrics;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 레플리카, 나머지는 프라이머리로 보낸다.
+ * 트랜잭션 속성이 정해진 뒤에 커넥션을 고르도록 LazyConnectionDataSourceProxy 뒤에 둔다 (ReplicaRoutingConfig).
+ * 레플리카로 가려면 모두 만족해야 한다.
+ * - 지연(ReplicaLagMonitor)이 max-lag 이내
+ * - 레플리카가 현재 스레드의 요구 시점(ReadConsistency)까지 반영
+ * - 레플리카가 현재 사용자의 마지막 쓰기 LSN(ReadYourWrites)까지 재생
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWrites readYourWrites;
+    private final StudyroomMetrics metrics;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                      ReadYourWrites readYourWrites, StudyroomMetrics metrics) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+        this.metrics = metrics;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Target target = route();
+        metrics.count("studyroom.datasource.route", "target", target == Target.PRIMARY ? "primary" : "replica");
+        return target;
+    }
+
+    Target route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) return Target.PRIMARY;
+        boolean fresh = lagMonitor.isFresh(ReadConsistency.required())
+                && lagMonitor.hasReplayed(readYourWrites.lastWriteOfCurrentUser());
+        return fresh ? Target.REPLICA : Target.PRIMARY;
+    }
+}
@@ -0,0 +1,73 @@
+package com.synclife.studyroom.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.synclife.studyroom.auth.AuthContext;
+import com.synclife.studyroom.auth.AuthFilter;
+import com.synclife.studyroom.reservation.application.ReservationChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 사용자별 마지막 쓰기(예약 생성/취소 커밋)의 프라이머리 WAL 위치(LSN). 그 사용자의 요청에서 열리는 읽기 전용
+ * 트랜잭션은 레플리카가 이 위치까지 재생하기 전에는 프라이머리로 간다 (read-your-writes).
+ * - 위치는 커밋 직후 프라이머리의 pg_current_wal_lsn()이다. 커밋 레코드는 이미 그 앞에 있으므로 보수적인 값이다
+ * - 키는 쓰기를 한 사용자(요청의 AuthContext)다. 관리자가 남의 예약을 취소해도 관리자 자신의 읽기가 보호된다
+ *   요청 밖(쓰기 큐 워커 등)에서 커밋되면 예약 소유자로 기록한다 (생성은 소유자 본인의 요청이다)
+ * 항목은 max-lag보다 오래 보관할 필요가 없다: 그 뒤에는 레플리카가 반영했거나, 지연 초과로 어차피 프라이머리다.
+ */
+public class ReadYourWrites {
+    private static final Logger log = LoggerFactory.getLogger(ReadYourWrites.class);
+
+    private final JdbcTemplate primary;
+    private final Cache<Long, Long> lastWrite;
+
+    public ReadYourWrites(DataSource primary, Duration retention, long maxUsers) {
+        this.primary = new JdbcTemplate(primary);
+        this.lastWrite = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .maximumSize(maxUsers)
+                .build();
+    }
+
+    @TransactionalEventListener
+    public void on(ReservationChangedEvent event) {
+        Long actor = currentUserId();
+        record(actor != null ? actor : event.userId());
+    }
+
+    void record(Long userId) {
+        if (userId == null) return;
+        long lsn;
+        try {
+            Long current = primary.queryForObject(ReplicaLagMonitor.PRIMARY_LSN_SQL, Long.class);
+            lsn = current == null ? Long.MAX_VALUE : current;
+        } catch (DataAccessException e) {
+            // 위치를 모르면 보관 기간 동안 이 사용자의 읽기는 프라이머리로
+            log.warn("could not read primary WAL position after commit: {}", e.getMessage());
+            lsn = Long.MAX_VALUE;
+        }
+        lastWrite.asMap().merge(userId, lsn, Math::max);
+    }
+
+    /** 현재 요청(AuthFilter가 넣은 AuthContext) 사용자의 마지막 쓰기 LSN, 요청 밖이거나 없으면 null */
+    public Long lastWriteOfCurrentUser() {
+        Long userId = currentUserId();
+        return userId == null ? null : lastWrite.getIfPresent(userId);
+    }
+
+    private static Long currentUserId() {
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        if (attrs == null) return null;
+        if (!(attrs.getAttribute(AuthFilter.ATTR, RequestAttributes.SCOPE_REQUEST) instanceof AuthContext ctx)) return null;
+        return ctx.userId();
+    }
+}
@@ -0,0 +1,104 @@
+package com.synclife.studyroom.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 레플리카가 프라이머리 커밋을 어디까지 반영했는지 주기적으로 잰다.
+ * - 측정마다 프라이머리의 WAL 끝(pg_current_wal_lsn)을 먼저 읽어 (LSN, 시각)으로 기록하고, 이어서 레플리카의 재생 위치를 읽는다
+ * - freshAsOf = 재생 위치가 따라잡은 가장 최근 프라이머리 기록의 시각. 레플리카는 그 시각까지의 커밋을 모두 반영했다
+ * - 받기만 하고 재생하지 않은 WAL, 아직 받지 못한 WAL 모두 지연으로 잡힌다 (받은 WAL 기준이 아니라 프라이머리 기준)
+ * - 복구 모드가 아닌 인스턴스(로컬 stand-in)는 자기 WAL 끝을 재생 위치로 본다
+ * 측정 후 흐른 시간도 지연에 포함하므로, 측정이 멈추거나 실패하면 곧 max-lag를 넘어 프라이머리로 돌아간다.
+ */
+public class ReplicaLagMonitor {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    static final String PRIMARY_LSN_SQL = "SELECT (pg_current_wal_lsn() - '0/0'::pg_lsn)::bigint";
+
+    private static final String REPLAYED_LSN_SQL = """
+            SELECT (CASE WHEN pg_is_in_recovery() THEN pg_last_wal_replay_lsn() ELSE pg_current_wal_lsn() END
+                    - '0/0'::pg_lsn)::bigint""";
+
+    private record Sample(long lsn, Instant at) {}
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+    private final Clock clock;
+    private final Deque<Sample> samples = new ArrayDeque<>();   // check()에서만 만진다
+    private volatile Instant freshAsOf;
+    private volatile long replayedLsn = -1;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag, Clock clock, MeterRegistry registry) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+        this.clock = clock;
+        Gauge.builder("studyroom.datasource.replica.lag", this, m -> m.lag().toMillis())
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${studyroom.datasource.replica.lag-check-interval:200ms}")
+    public synchronized void check() {
+        Instant now = clock.instant();
+        try {
+            Long primaryLsn = primary.queryForObject(PRIMARY_LSN_SQL, Long.class);
+            Long replayed = replica.queryForObject(REPLAYED_LSN_SQL, Long.class);
+            if (primaryLsn == null || replayed == null) throw new IllegalStateException("WAL position unavailable");
+            samples.addLast(new Sample(primaryLsn, now));
+            replayedLsn = replayed;
+            freshAsOf = caughtUpTo(replayed, now.minus(maxLag));
+        } catch (DataAccessException | IllegalStateException e) {
+            if (freshAsOf != null) log.warn("replica lag check failed, routing reads to primary: {}", e.getMessage());
+            freshAsOf = null;
+        }
+    }
+
+    /**
+     * replayed 이하인 가장 최근 기록의 시각. 그보다 오래된 기록은 다음 측정에도 쓸 일이 없어 버린다
+     * (재생 위치는 줄지 않는다). oldest보다 오래된 기록은 어차피 max-lag 초과라 함께 버린다.
+     */
+    private Instant caughtUpTo(long replayed, Instant oldest) {
+        Sample caughtUp = null;
+        while (!samples.isEmpty() && (samples.peekFirst().lsn() <= replayed || samples.peekFirst().at().isBefore(oldest))) {
+            Sample s = samples.pollFirst();
+            if (s.lsn() <= replayed) caughtUp = s;
+        }
+        if (caughtUp == null) return null;
+        samples.addFirst(caughtUp);   // 레플리카가 멈춰 있으면 다음 측정도 이 시각이다
+        return caughtUp.at();
+    }
+
+    /** 레플리카가 max-lag 이내이고 required 시점까지의 커밋을 반영했으면 true (required가 null이면 지연만 본다) */
+    public boolean isFresh(Instant required) {
+        Instant f = freshAsOf;
+        if (f == null) return false;
+        if (Duration.between(f, clock.instant()).compareTo(maxLag) > 0) return false;
+        return required == null || !f.isBefore(required);
+    }
+
+    /** 마지막 측정 때 레플리카가 lsn까지 재생했으면 true (lsn이 null이면 요구 없음) */
+    public boolean hasReplayed(Long lsn) {
+        return lsn == null || replayedLsn >= lsn;
+    }
+
+    /** 현재 추정 지연 (측정 후 흐른 시간 포함, 측정 전/실패 시 1일) */
+    public Duration lag() {
+        Instant f = freshAsOf;
+        return f == null ? Duration.ofDays(1) : Duration.between(f, clock.instant());
+    }
+}
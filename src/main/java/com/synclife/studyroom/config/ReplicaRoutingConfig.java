@@ -0,0 +1,79 @@
+package com.synclife.studyroom.config;
+
+import com.synclife.studyroom.common.StudyroomMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 읽기/쓰기 데이터소스 분리. studyroom.datasource.replica.url이 있을 때만 켜진다 (없으면 Boot 기본 단일 풀).
+ * - primary: spring.datasource.* (+ spring.datasource.hikari.*)
+ * - replica: studyroom.datasource.replica.* (+ studyroom.datasource.replica.hikari.*), 읽기 전용 커넥션
+ * - dataSource(@Primary): Lazy 프록시 → ReadWriteRoutingDataSource. JPA/JdbcTemplate/schema 초기화가 모두 이것을 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "studyroom.datasource.replica.url")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource ds = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        ds.setPoolName("primary");
+        return ds;
+    }
+
+    @Bean
+    @ConfigurationProperties("studyroom.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${studyroom.datasource.replica.url}") String url,
+            @Value("${studyroom.datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${studyroom.datasource.replica.password:${spring.datasource.password}}") String password) {
+        HikariDataSource ds = DataSourceBuilder.create().type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url).username(username).password(password)
+                .build();
+        ds.setPoolName("replica");
+        ds.setReadOnly(true);
+        return ds;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("primaryDataSource") DataSource primary, @Qualifier("replicaDataSource") DataSource replica,
+            MeterRegistry registry, @Value("${studyroom.datasource.replica.max-lag:1s}") Duration maxLag) {
+        return new ReplicaLagMonitor(primary, replica, maxLag, Clock.systemUTC(), registry);
+    }
+
+    // max-lag가 지난 쓰기는 레플리카가 반영했거나(레플리카 사용 가능) 지연 초과(프라이머리)이므로 그만큼만 기억한다
+    @Bean
+    public ReadYourWrites readYourWrites(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Value("${studyroom.datasource.replica.max-lag:1s}") Duration maxLag,
+            @Value("${studyroom.datasource.replica.read-your-writes.max-users:100000}") long maxUsers) {
+        return new ReadYourWrites(primary, maxLag, maxUsers);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary, @Qualifier("replicaDataSource") DataSource replica,
+            ReplicaLagMonitor lagMonitor, ReadYourWrites readYourWrites, StudyroomMetrics metrics) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replica, lagMonitor, readYourWrites, metrics));
+    }
+}
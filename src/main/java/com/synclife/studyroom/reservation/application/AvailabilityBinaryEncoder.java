@@ -0,0 +1,228 @@
+package com.synclife.studyroom.reservation.application;
+
+import com.synclife.studyroom.room.domain.Room;
+import com.synclife.studyroom.room.dto.RoomAvailabilityResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 키오스크용 GET /rooms 바이너리 표현 (application/vnd.studyroom.availability).
+ * JSON과 같은 내용을 시각은 epoch 초 델타, 정수는 varint로 줄여 쓴다.
+ * 인덱스 경로는 인덱스 배열에서 출력 스트림으로 바로 쓰며 DTO 목록을 만들지 않는다.
+ *
+ * <pre>
+ * 'S' 'R' 'A' 1                       매직 + 형식 버전
+ * svarint windowStart                 창 시작 (epoch 초)
+ * uvarint windowEnd - windowStart
+ * uvarint flags                       bit0 = 방 사전 포함
+ * [사전]  { uvarint roomId 델타(≥1), string name, uvarint locationRef, [string location], uvarint capacity }* uvarint 0
+ *         locationRef 0 = 새 위치 문자열이 뒤따름, k = 앞서 나온 k번째 위치
+ * 본문    { uvarint roomId 델타(≥1),
+ *           uvarint 예약 수, { svarint id 델타, uvarint userId, svarint start - prev, uvarint end - start }*
+ *           uvarint 빈 슬롯 수, { uvarint start - prev, uvarint end - start }* }* uvarint 0
+ *         prev는 창 시작에서 출발해 항목의 end로 전진한다 (예약/빈 슬롯 각각)
+ * string = uvarint 바이트 길이 + UTF-8, svarint = zigzag
+ * </pre>
+ * 시각은 초 단위로 내림한다 (초 미만은 키오스크 표시에 쓰이지 않는다).
+ * 사전을 생략한 응답에 클라이언트 사전에 없는 방이 오면 사전을 다시 받아야 한다.
+ */
+public final class AvailabilityBinaryEncoder {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.studyroom.availability";
+
+    static final byte[] MAGIC = {'S', 'R', 'A', 1};
+    static final int FLAG_DICTIONARY = 1;
+
+    private final OutputStream out;
+    private final byte[] buf = new byte[8192];
+    private int pos;
+
+    private final long windowStart, windowEnd;  // epoch micros
+    private final long minFree;                 // micros, 없으면 -1
+
+    private long lastDictionaryRoom, lastRoom;
+    private final Map<String, Integer> locations = new HashMap<>();
+    private long[] free = new long[32];         // 빈 슬롯 [start, end) 쌍 (방마다 재사용)
+
+    AvailabilityBinaryEncoder(OutputStream out, long windowStart, long windowEnd, long minFree) {
+        this.out = out;
+        this.windowStart = windowStart; this.windowEnd = windowEnd; this.minFree = minFree;
+    }
+
+    void header(boolean dictionary) throws IOException {
+        for (byte b : MAGIC) writeByte(b);
+        writeSigned(seconds(windowStart));
+        writeUnsigned(seconds(windowEnd) - seconds(windowStart));
+        writeUnsigned(dictionary ? FLAG_DICTIONARY : 0);
+    }
+
+    /** 사전 항목. roomId 오름차순으로 호출한다. */
+    void dictionaryRoom(long roomId, String name, String location, int capacity) throws IOException {
+        writeUnsigned(roomId - lastDictionaryRoom);
+        lastDictionaryRoom = roomId;
+        writeString(name);
+        Integer ref = locations.get(location);
+        if (ref != null) {
+            writeUnsigned(ref);
+        } else {
+            writeUnsigned(0);
+            writeString(location);
+            locations.put(location, locations.size() + 1);
+        }
+        writeUnsigned(capacity);
+    }
+
+    void endDictionary() throws IOException {
+        writeUnsigned(0);
+    }
+
+    /**
+     * 인덱스 배열의 [lo, hi) 예약(창과 겹치는 것, 시작시간 순)으로 방 하나를 쓴다. AvailabilitySweep과 같은 규칙으로
+     * 빈 슬롯을 계산하며, minFree 조건을 만족하는 빈 슬롯이 없으면 쓰지 않고 false를 반환한다.
+     */
+    boolean room(long roomId, long[] ids, long[] userIds, long[] starts, long[] ends, int lo, int hi) throws IOException {
+        int n = 0;
+        long cursor = windowStart;
+        for (int k = lo; k < hi; k++) {
+            if (starts[k] > cursor && longEnough(cursor, starts[k])) n = addFree(n, cursor, starts[k]);
+            if (ends[k] > cursor) cursor = ends[k];
+        }
+        if (cursor < windowEnd && longEnough(cursor, windowEnd)) n = addFree(n, cursor, windowEnd);
+        if (minFree >= 0 && n == 0) return false;
+
+        beginRoom(roomId, hi - lo);
+        long prevId = 0, prev = seconds(windowStart);
+        for (int k = lo; k < hi; k++) {
+            writeSigned(ids[k] - prevId);
+            prevId = ids[k];
+            writeUnsigned(userIds[k]);
+            long s = seconds(starts[k]), e = seconds(ends[k]);
+            writeSigned(s - prev);
+            writeUnsigned(e - s);
+            prev = e;
+        }
+        writeUnsigned(n / 2);
+        prev = seconds(windowStart);
+        for (int k = 0; k < n; k += 2) {
+            long s = seconds(free[k]), e = seconds(free[k + 1]);
+            writeUnsigned(s - prev);
+            writeUnsigned(e - s);
+            prev = e;
+        }
+        return true;
+    }
+
+    /** 이미 계산된 응답(DB 경로)으로 방 하나를 쓴다. */
+    void room(RoomAvailabilityResponse r) throws IOException {
+        beginRoom(r.roomId(), r.reservations().size());
+        long prevId = 0, prev = seconds(windowStart);
+        for (RoomAvailabilityResponse.ReservationWindow w : r.reservations()) {
+            writeSigned(w.id() - prevId);
+            prevId = w.id();
+            writeUnsigned(w.userId());
+            long s = seconds(w.startAt()), e = seconds(w.endAt());
+            writeSigned(s - prev);
+            writeUnsigned(e - s);
+            prev = e;
+        }
+        writeUnsigned(r.freeSlots().size());
+        prev = seconds(windowStart);
+        for (RoomAvailabilityResponse.FreeSlot f : r.freeSlots()) {
+            long s = seconds(f.startAt()), e = seconds(f.endAt());
+            writeUnsigned(s - prev);
+            writeUnsigned(e - s);
+            prev = e;
+        }
+    }
+
+    /** 본문 종료 표시를 쓰고 버퍼를 비운다. 스트림은 닫지 않는다. */
+    void finish() throws IOException {
+        writeUnsigned(0);
+        out.write(buf, 0, pos);
+        pos = 0;
+        out.flush();
+    }
+
+    /** DB 경로: 응답 목록(방 id 순으로 정렬해 쓴다)을 한 번에 인코딩 */
+    static void encode(List<RoomAvailabilityResponse> result, List<Room> dictionary,
+                       Instant start, Instant end, OutputStream out) throws IOException {
+        var encoder = new AvailabilityBinaryEncoder(out, ReservationIndex.micros(start), ReservationIndex.micros(end), -1);
+        encoder.header(dictionary != null);
+        if (dictionary != null) {
+            for (Room r : dictionary) encoder.dictionaryRoom(r.getId(), r.getName(), r.getLocation(), r.getCapacity());
+            encoder.endDictionary();
+        }
+        List<RoomAvailabilityResponse> sorted = new ArrayList<>(result);
+        sorted.sort((a, b) -> Long.compare(a.roomId(), b.roomId()));
+        for (RoomAvailabilityResponse r : sorted) encoder.room(r);
+        encoder.finish();
+    }
+
+    private void beginRoom(long roomId, int reservations) throws IOException {
+        writeUnsigned(roomId - lastRoom);
+        lastRoom = roomId;
+        writeUnsigned(reservations);
+    }
+
+    private boolean longEnough(long s, long e) {
+        return minFree < 0 || e - s >= minFree;
+    }
+
+    private int addFree(int n, long s, long e) {
+        if (n + 2 > free.length) free = Arrays.copyOf(free, free.length * 2);
+        free[n] = s;
+        free[n + 1] = e;
+        return n + 2;
+    }
+
+    private static long seconds(long micros) {
+        return Math.floorDiv(micros, 1_000_000L);
+    }
+
+    private static long seconds(Instant t) {
+        return t.getEpochSecond();
+    }
+
+    private void writeString(String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        writeUnsigned(bytes.length);
+        if (pos + bytes.length > buf.length) drain();
+        if (bytes.length > buf.length) {
+            out.write(bytes);
+            return;
+        }
+        System.arraycopy(bytes, 0, buf, pos, bytes.length);
+        pos += bytes.length;
+    }
+
+    private void writeSigned(long v) throws IOException {
+        writeUnsigned((v << 1) ^ (v >> 63));
+    }
+
+    private void writeUnsigned(long v) throws IOException {
+        if (pos + 10 > buf.length) drain();
+        while ((v & ~0x7FL) != 0) {
+            buf[pos++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        buf[pos++] = (byte) v;
+    }
+
+    private void writeByte(int b) throws IOException {
+        if (pos == buf.length) drain();
+        buf[pos++] = (byte) b;
+    }
+
+    private void drain() throws IOException {
+        out.write(buf, 0, pos);
+        pos = 0;
+    }
+}
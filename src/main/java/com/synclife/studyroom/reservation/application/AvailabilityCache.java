@@ -0,0 +1,96 @@
+package com.synclife.studyroom.reservation.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.synclife.studyroom.room.application.RoomCreatedEvent;
+import com.synclife.studyroom.room.dto.AvailabilityFilter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * GET /rooms 응답(직렬화된 JSON 바이트) 캐시. 키 = (날짜, 필터, 버전).
+ * - 예약이 바뀐 날짜만 버전이 올라가므로 해당 날짜의 키만 무효화된다 (다른 날짜는 그대로 적중)
+ * - 계산 중에 변경이 커밋되어도 이전 버전 키로만 저장되므로 오래된 응답이 새 버전으로 서빙되지 않는다
+ * - 적중률/축출/로드 시간은 Micrometer(cache.*{cache=availability})로 노출
+ */
+@Component
+public class AvailabilityCache {
+
+    private final ReservationService reservationService;
+    private final AvailabilityVersions versions;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Cache<Key, byte[]> cache;
+    private final DistributionSummary payloadSize;
+
+    record Key(LocalDate date, AvailabilityFilter filter, AvailabilityVersions.Version version) {}
+
+    public AvailabilityCache(ReservationService reservationService, AvailabilityVersions versions,
+                             ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                             @Value("${studyroom.availability.cache.enabled:true}") boolean enabled,
+                             @Value("${studyroom.availability.cache.max-size:512}") long maxSize,
+                             @Value("${studyroom.availability.cache.ttl:30s}") Duration ttl) {
+        this.reservationService = reservationService;
+        this.versions = versions;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "availability");
+        this.payloadSize = DistributionSummary.builder("studyroom.availability.payload")
+                .baseUnit("bytes").register(meterRegistry);
+    }
+
+    /** date의 가용성 JSON. 캐시에 있으면 Jackson/엔진을 거치지 않는다. */
+    public byte[] json(LocalDate date, AvailabilityFilter filter) {
+        return json(date, filter, versions.current(date));
+    }
+
+    /** 호출자가 먼저 읽은 버전(예: ETag 계산에 쓴 버전)으로 조회 */
+    public byte[] json(LocalDate date, AvailabilityFilter filter, AvailabilityVersions.Version version) {
+        byte[] json = enabled
+                ? cache.get(new Key(date, filter, version), k -> serialize(k.date(), k.filter()))
+                : serialize(date, filter);
+        payloadSize.record(json.length);
+        return json;
+    }
+
+    // 버전이 올라간 키는 더 이상 조회되지 않으므로, 메모리를 위해 즉시 비운다 (버전 갱신 이후 실행)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 3)
+    @TransactionalEventListener
+    public void on(ReservationChangedEvent event) {
+        Set<LocalDate> dates = new HashSet<>(AvailabilityVersions.touchedDates(event.startAt(), event.endAt()));
+        cache.asMap().keySet().removeIf(k -> dates.contains(k.date()));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE + 3)
+    @TransactionalEventListener
+    public void on(RoomCreatedEvent event) {
+        cache.invalidateAll();
+    }
+
+    private byte[] serialize(LocalDate date, AvailabilityFilter filter) {
+        try {
+            return objectMapper.writeValueAsBytes(reservationService.availability(date, filter));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
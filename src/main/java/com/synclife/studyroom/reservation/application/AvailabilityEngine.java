@@ -0,0 +1,20 @@
+package com.synclife.studyroom.reservation.application;
+
+import com.synclife.studyroom.room.dto.AvailabilityFilter;
+import com.synclife.studyroom.room.dto.RoomAvailabilityResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DB 기반 가용성 계산 엔진. {@code studyroom.availability.engine} 값과 {@link #name()}으로 선택한다.
+ * - sweep    : 예약 행을 읽어 Java에서 빈 구간 스윕 (기본값)
+ * - postgres : PostgreSQL multirange 연산으로 빈 구간을 DB에서 계산
+ */
+public interface AvailabilityEngine {
+
+    String name();
+
+    /** date(UTC)의 필터 창 안에서 방별 예약/빈 구간, 방 id 오름차순. 필터에 맞지 않는 방은 빠진다. */
+    List<RoomAvailabilityResponse> availability(LocalDate date, AvailabilityFilter filter);
+}
@@ -0,0 +1,294 @@
+package com.synclife.studyroom.reservation.application;
+
+import com.synclife.studyroom.room.dto.AvailabilityChange;
+import com.synclife.studyroom.room.dto.RoomAvailabilityResponse;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 날짜별 예약 변경 피드(SSE). 커밋된 create/cancel마다 영향받은 날짜의 구독자에게
+ * {@link AvailabilityChange}(추가/삭제된 예약 + 재계산된 그 방의 빈 슬롯)를 보낸다.
+ * - 커밋 스레드는 구독자가 있는 날짜만 골라 발행 스레드에 넘긴다. 빈 슬롯 재계산과 큐 적재는 발행 스레드(하나, 커밋 순서 유지),
+ *   실제 전송은 구독자별 가상 스레드가 한다
+ * - 구독자가 없는 날짜의 변경은 내용 없이 id만 남긴다(gap). 그 날짜를 Last-Event-ID로 이어 받으려 하면 reset을 보낸다
+ * - 큐가 가득 찬(느린) 구독자는 연결을 끊는다. 클라이언트는 Last-Event-ID로 재접속해 이어 받는다
+ * - 최근 변경은 링 버퍼에 보관하며, 그보다 오래된 id로 재접속하면 reset 이벤트를 보내 전체 재조회를 요구한다
+ * - 인덱스와 마찬가지로 이 인스턴스에서 커밋된 변경만 전파한다 (단일 인스턴스 전제)
+ */
+@Component
+public class AvailabilityFeed {
+    private static final Logger log = LoggerFactory.getLogger(AvailabilityFeed.class);
+
+    static final String CHANGE = "change";
+    static final String RESET = "reset";
+
+    private final ReservationService reservationService;
+    private final long timeoutMillis;
+    private final int queueCapacity;
+    private final int maxSubscribers;
+    private final int historySize;
+
+    private final Map<LocalDate, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final ExecutorService publisher = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("availability-feed").daemon().factory());
+
+    // 재시작 후에도 이전 프로세스의 id와 겹치지 않도록 시각 기반으로 시작한다.
+    private final ReentrantLock historyLock = new ReentrantLock();
+    private final ArrayDeque<Entry> history = new ArrayDeque<>();
+    private long lastId = System.currentTimeMillis() * 1000;
+
+    public AvailabilityFeed(ReservationService reservationService,
+                            @Value("${studyroom.availability.feed.timeout:30m}") Duration timeout,
+                            @Value("${studyroom.availability.feed.queue-capacity:256}") int queueCapacity,
+                            @Value("${studyroom.availability.feed.max-subscribers:10000}") int maxSubscribers,
+                            @Value("${studyroom.availability.feed.history-size:4096}") int historySize) {
+        this.reservationService = reservationService;
+        this.timeoutMillis = timeout.toMillis();
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        this.historySize = historySize;
+    }
+
+    /**
+     * date의 변경을 구독한다. lastEventId가 있으면 그 이후 변경을 먼저 재전송한다.
+     * 구독자 수 상한을 넘으면 IllegalStateException("TOO_MANY_SUBSCRIBERS").
+     */
+    public SseEmitter subscribe(LocalDate date, Long lastEventId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new IllegalStateException("TOO_MANY_SUBSCRIBERS");
+        }
+        SseEmitter emitter = newEmitter(timeoutMillis);
+        Subscriber sub = new Subscriber(date, emitter);
+        emitter.onCompletion(() -> remove(sub));
+        emitter.onTimeout(() -> remove(sub));
+        emitter.onError(e -> remove(sub));
+
+        // 재전송분과 실시간 변경 사이에 빠지는 것이 없도록 등록과 history 스냅샷을 같은 락에서 한다.
+        // 둘이 겹치는 변경은 id로 걸러낸다.
+        historyLock.lock();
+        try {
+            // 집합 생성과 추가를 한 번의 compute로: remove()가 마지막 구독자를 빼며 집합을 지우는 것과 겹쳐도
+            // 지워진 집합에 들어가 이벤트를 못 받는 일이 없다. 그새 끊긴 구독자(closed)는 넣지 않는다
+            subscribers.compute(date, (d, set) -> {
+                if (set == null) set = ConcurrentHashMap.newKeySet();
+                if (!sub.closed.get()) set.add(sub);
+                return set.isEmpty() ? null : set;
+            });
+            if (lastEventId != null) {
+                Entry oldest = history.peekFirst();
+                long floor = oldest == null ? lastId : oldest.id() - 1;
+                List<Entry> missed = new ArrayList<>();
+                for (Entry e : history) {
+                    if (e.id() > lastEventId && e.date().equals(date)) missed.add(e);
+                }
+                boolean lost = lastEventId < floor || lastEventId > lastId
+                        || missed.stream().anyMatch(e -> e.change() == null);
+                if (lost) sub.offer(Message.reset(lastId));
+                else missed.forEach(e -> sub.offer(Message.of(e.change())));
+            }
+        } finally {
+            historyLock.unlock();
+        }
+        sub.drain();
+        return emitter;
+    }
+
+    // 인덱스가 갱신된 다음에 빈 슬롯을 재계산해야 한다.
+    @Order(Ordered.HIGHEST_PRECEDENCE + 4)
+    @TransactionalEventListener
+    public void on(ReservationChangedEvent event) {
+        for (LocalDate date : AvailabilityVersions.touchedDates(event.startAt(), event.endAt())) {
+            // 구독자가 없으면 재계산하지 않는다. 나중에 이 날짜를 이어 받으려는 구독자를 위해 gap만 남긴다
+            if (gapIfUnsubscribed(date)) continue;
+            try {
+                publisher.execute(() -> publish(event, date));
+            } catch (RejectedExecutionException e) {
+                gap(date);   // 종료 중
+            }
+        }
+    }
+
+    /** 발행 스레드: 그 방의 빈 슬롯을 재계산해 history에 넣고 구독자 큐에 적재한다 */
+    private void publish(ReservationChangedEvent event, LocalDate date) {
+        AvailabilityChange.Type type = event.type() == ReservationChangedEvent.Type.CREATED
+                ? AvailabilityChange.Type.ADDED : AvailabilityChange.Type.REMOVED;
+        var window = new RoomAvailabilityResponse.ReservationWindow(
+                event.reservationId(), event.userId(), event.startAt(), event.endAt());
+        List<RoomAvailabilityResponse.FreeSlot> free;
+        try {
+            free = reservationService.roomAvailability(date, event.roomId())
+                    .map(RoomAvailabilityResponse::freeSlots)
+                    .orElse(List.of());
+        } catch (RuntimeException e) {
+            log.warn("availability feed could not recompute free slots: date={}, room={}", date, event.roomId(), e);
+            gap(date);
+            return;
+        }
+
+        List<Subscriber> targets;
+        AvailabilityChange change;
+        historyLock.lock();
+        try {
+            change = new AvailabilityChange(++lastId, type, date, event.roomId(), window, free);
+            add(new Entry(change.id(), date, change));
+            Set<Subscriber> set = subscribers.get(date);
+            targets = set == null ? List.of() : new ArrayList<>(set);
+        } finally {
+            historyLock.unlock();
+        }
+
+        Message message = Message.of(change);
+        for (Subscriber sub : targets) {
+            if (sub.offer(message)) sub.drain();
+            else evict(sub);
+        }
+    }
+
+    // 구독 등록(subscribe)과 같은 락에서 확인해야, 확인 직후 등록한 구독자가 gap을 놓치지 않는다
+    private boolean gapIfUnsubscribed(LocalDate date) {
+        historyLock.lock();
+        try {
+            if (subscribers.containsKey(date)) return false;
+            add(new Entry(++lastId, date, null));
+            return true;
+        } finally {
+            historyLock.unlock();
+        }
+    }
+
+    private void gap(LocalDate date) {
+        historyLock.lock();
+        try {
+            add(new Entry(++lastId, date, null));
+        } finally {
+            historyLock.unlock();
+        }
+    }
+
+    // historyLock 안에서 호출
+    private void add(Entry entry) {
+        history.addLast(entry);
+        if (history.size() > historySize) history.removeFirst();
+    }
+
+    // 프록시/로드밸런서의 유휴 연결 종료를 막고, 끊긴 연결을 감지한다.
+    @Scheduled(fixedDelayString = "${studyroom.availability.feed.heartbeat:15s}")
+    public void heartbeat() {
+        Message ping = Message.heartbeat();
+        for (Set<Subscriber> set : subscribers.values()) {
+            for (Subscriber sub : set) {
+                if (sub.offer(ping)) sub.drain();
+                else evict(sub);
+            }
+        }
+    }
+
+    public int subscriberCount() { return subscriberCount.get(); }
+
+    @PreDestroy
+    void shutdown() {
+        publisher.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(sub -> sub.emitter.complete()));
+        senders.shutdownNow();
+    }
+
+    /** 테스트에서 전송을 가로챌 수 있도록 분리 */
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void evict(Subscriber sub) {
+        log.debug("evicting slow availability subscriber: date={}", sub.date);
+        remove(sub);
+        sub.emitter.complete();
+    }
+
+    private void remove(Subscriber sub) {
+        if (!sub.closed.compareAndSet(false, true)) return;
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(sub.date, (d, set) -> {
+            set.remove(sub);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /** history 한 칸. change가 null이면 구독자가 없어 내용 없이 id만 남긴 변경(gap) */
+    private record Entry(long id, LocalDate date, AvailabilityChange change) {}
+
+    private record Message(String name, Long id, Object data) {
+        static Message of(AvailabilityChange c) { return new Message(CHANGE, c.id(), c); }
+        static Message reset(long id) { return new Message(RESET, id, Map.of("lastEventId", id)); }
+        static Message heartbeat() { return new Message(null, null, null); }
+
+        SseEmitter.SseEventBuilder event() {
+            if (name == null) return SseEmitter.event().comment("ping");
+            return SseEmitter.event().name(name).id(Long.toString(id)).data(data);
+        }
+    }
+
+    /** 구독자 하나. 큐는 한정 크기이고, 한 번에 하나의 가상 스레드만 큐를 비운다. */
+    private final class Subscriber {
+        final LocalDate date;
+        final SseEmitter emitter;
+        final BlockingQueue<Message> queue = new ArrayBlockingQueue<>(queueCapacity);
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(LocalDate date, SseEmitter emitter) {
+            this.date = date;
+            this.emitter = emitter;
+        }
+
+        boolean offer(Message m) {
+            return !closed.get() && queue.offer(m);
+        }
+
+        void drain() {
+            if (closed.get() || !draining.compareAndSet(false, true)) return;
+            senders.execute(() -> {
+                try {
+                    Message m;
+                    while (!closed.get() && (m = queue.poll()) != null) emitter.send(m.event());
+                } catch (IOException | IllegalStateException e) {
+                    // 클라이언트가 끊었거나 이미 완료된 emitter
+                    remove(this);
+                    emitter.completeWithError(e);
+                    return;
+                } finally {
+                    draining.set(false);
+                }
+                // 비우는 사이에 들어온 메시지가 있으면 다시 시작
+                if (!queue.isEmpty()) drain();
+            });
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.synclife.studyroom.reservation.application;
+
+import com.synclife.studyroom.room.dto.DailyRoomAvailabilityResponse;
+import com.synclife.studyroom.room.dto.RoomAvailabilityResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 방 하나의 예약 목록(시작시간 정렬)으로 [start, end) 구간의 빈 구간을 계산하는 스윕.
+ * DB 경로와 인메모리 인덱스 경로가 같은 결과를 내도록 공용으로 사용한다.
+ */
+public final class AvailabilitySweep {
+
+    private AvailabilitySweep() {}
+
+    public static RoomAvailabilityResponse sweep(
+            Long roomId, String name, String location, int capacity,
+            List<RoomAvailabilityResponse.ReservationWindow> windows,
+            Instant start, Instant end
+    ) {
+        return sweep(roomId, name, location, capacity, windows, start, end, null);
+    }
+
+    /**
+     * minFree가 주어지면 그보다 짧은 빈 슬롯은 버리고, 남는 슬롯이 없으면 null(방 제외)을 반환한다.
+     */
+    public static RoomAvailabilityResponse sweep(
+            Long roomId, String name, String location, int capacity,
+            List<RoomAvailabilityResponse.ReservationWindow> windows,
+            Instant start, Instant end, Duration minFree
+    ) {
+        // 빈 구간 계산: 커서를 start로 두고 예약 사이의 간격을 수집
+        Instant cursor = start;
+        List<RoomAvailabilityResponse.FreeSlot> free = new ArrayList<>();
+
+        for (RoomAvailabilityResponse.ReservationWindow w : windows) {
+            Instant s = w.startAt();
+            Instant e = w.endAt();
+            if (s.isAfter(cursor) && longEnough(cursor, s, minFree)) {
+                free.add(new RoomAvailabilityResponse.FreeSlot(cursor, s));
+            }
+            cursor = e.isAfter(cursor) ? e : cursor; // 반개구간이므로 같은 시각이면 이동 없음
+        }
+        if (cursor.isBefore(end) && longEnough(cursor, end, minFree)) {
+            free.add(new RoomAvailabilityResponse.FreeSlot(cursor, end));
+        }
+        if (minFree != null && free.isEmpty()) return null;
+
+        return new RoomAvailabilityResponse(roomId, name, location, capacity, windows, free);
+    }
+
+    private static boolean longEnough(Instant s, Instant e, Duration minFree) {
+        return minFree == null || Duration.between(s, e).compareTo(minFree) >= 0;
+    }
+
+    /**
+     * 기간 [from, to] 전체와 겹치는 방 하나의 예약(시작시간 정렬)을 하루씩 잘라 sink로 흘려보낸다.
+     * 같은 방의 예약은 겹치지 않으므로 종료시간도 정렬되어 있어 포인터 하나로 전진할 수 있다.
+     */
+    public static void sweepDays(
+            Long roomId, String name, String location, int capacity,
+            List<RoomAvailabilityResponse.ReservationWindow> windows,
+            LocalDate from, LocalDate to,
+            Consumer<DailyRoomAvailabilityResponse> sink
+    ) {
+        int lo = 0;
+        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            Instant dayStart = d.atStartOfDay(ZoneOffset.UTC).toInstant();
+            Instant dayEnd   = d.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+            while (lo < windows.size() && !windows.get(lo).endAt().isAfter(dayStart)) lo++;
+            int hi = lo;
+            while (hi < windows.size() && windows.get(hi).startAt().isBefore(dayEnd)) hi++;
+
+            sink.accept(DailyRoomAvailabilityResponse.of(d, sweep(
+                    roomId, name, location, capacity, windows.subList(lo, hi), dayStart, dayEnd)));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.synclife.studyroom.reservation.application;
+
+import com.synclife.studyroom.common.ReadConsistency;
+import com.synclife.studyroom.room.application.RoomCreatedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UTC 날짜별 가용성 버전. 예약 생성/취소 커밋 시 그 예약이 걸친 날짜만, 방 등록 시 전체(rooms)를 올린다.
+ * 커밋 리스너 순서: 인덱스(HIGHEST_PRECEDENCE) → 버전(+1) → 점유 비트맵(+2) → 응답 캐시(+3) → 변경 피드(+4).
+ * 버전은 인덱스 다음, 버전을 보고 판단하는 파생 구조(비트맵 reconcile, 캐시 키)보다 앞이어야 한다.
+ * 응답 캐시 키와 ETag로 쓰이므로, 버전을 읽은 뒤 계산한 결과는 최소한 그 버전만큼 최신이다.
+ * 레플리카 라우팅 시에는 마지막 변경 시각(changedAt)까지 반영한 레플리카에서만 읽어 이 성질을 지킨다.
+ */
+@Component
+public class AvailabilityVersions {
+
+    private final ConcurrentHashMap<LocalDate, AtomicLong> byDate = new ConcurrentHashMap<>();
+    private final AtomicLong rooms = new AtomicLong();
+    private final ConcurrentHashMap<LocalDate, Instant> changedAt = new ConcurrentHashMap<>();
+    private volatile Instant roomsChangedAt;
+    // 재기동/다른 인스턴스의 버전과 섞이지 않도록 ETag에 인스턴스 식별자를 넣는다
+    private final String instanceId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+
+    /** (방 버전, 날짜 버전) 쌍 */
+    public record Version(long rooms, long date) {}
+
+    /** 강한 ETag. 같은 URL(날짜+필터)에 대해 버전이 같으면 본문도 같다. */
+    public String etag(Version v) {
+        return "\"" + instanceId + "-" + v.rooms() + "-" + v.date() + "\"";
+    }
+
+    /** 같은 URL의 다른 표현(예: 바이너리)용 ETag. 표현마다 강한 ETag가 달라야 한다. */
+    public String etag(Version v, String representation) {
+        return "\"" + instanceId + "-" + v.rooms() + "-" + v.date() + "-" + representation + "\"";
+    }
+
+    /** 방 사전(이름/위치/수용 인원) 버전. 방이 등록될 때만 바뀐다. */
+    public String roomsToken(Version v) {
+        return instanceId + "-" + v.rooms();
+    }
+
+    public Version current(LocalDate date) {
+        AtomicLong v = byDate.get(date);
+        return new Version(rooms.get(), v == null ? 0 : v.get());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @TransactionalEventListener
+    public void on(ReservationChangedEvent event) {
+        Instant now = Instant.now();
+        for (LocalDate d : touchedDates(event.startAt(), event.endAt())) {
+            byDate.computeIfAbsent(d, k -> new AtomicLong()).incrementAndGet();
+            changedAt.merge(d, now, ReadConsistency::later);
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @TransactionalEventListener
+    public void on(RoomCreatedEvent event) {
+        rooms.incrementAndGet();
+        roomsChangedAt = Instant.now();
+    }
+
+    /** [from, to] 날짜의 가용성이 이 인스턴스에서 마지막으로 바뀐(커밋된) 시각, 없으면 null */
+    public Instant changedAt(LocalDate from, LocalDate to) {
+        Instant latest = roomsChangedAt;
+        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) latest = ReadConsistency.later(latest, changedAt.get(d));
+        return latest;
+    }
+
+    /** 반개구간 [start, end)가 걸친 UTC 날짜들 */
+    public static List<LocalDate> touchedDates(Instant start, Instant end) {
+        LocalDate first = LocalDate.ofInstant(start, ZoneOffset.UTC);
+        LocalDate last = LocalDate.ofInstant(end.minusNanos(1), ZoneOffset.UTC);
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate d = first; !d.isAfter(last); d = d.plusDays(1)) dates.add(d);
+        return dates;
+    }
+}
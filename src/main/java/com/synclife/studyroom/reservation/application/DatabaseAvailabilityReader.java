@@ -0,0 +1,104 @@
+package com.synclife.studyroom.reservation.application;
+
+import com.synclife.studyroom.common.StudyroomMetrics;
+import com.synclife.studyroom.reservation.domain.ReservationRepository;
+import com.synclife.studyroom.reservation.domain.ReservationSlot;
+import com.synclife.studyroom.room.domain.Room;
+import com.synclife.studyroom.room.domain.RoomRepository;
+import com.synclife.studyroom.room.dto.AvailabilityFilter;
+import com.synclife.studyroom.room.dto.DailyRoomAvailabilityResponse;
+import com.synclife.studyroom.room.dto.RoomAvailabilityResponse;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * DB에서 방/예약을 읽어 Java에서 빈 구간을 스윕한다 (engine = sweep).
+ * 인메모리 인덱스가 준비되기 전(또는 비활성화 시)이나 조회 날짜가 인덱스 창 밖일 때 사용되며, 기간 스트리밍도 담당한다.
+ * 예약은 {@link ReservationSlot} 프로젝션으로 읽어 엔티티를 만들지 않는다.
+ */
+@Component
+public class DatabaseAvailabilityReader implements AvailabilityEngine {
+    private final ReservationRepository reservations;
+    private final RoomRepository rooms;
+    private final StudyroomMetrics metrics;
+
+    public DatabaseAvailabilityReader(ReservationRepository reservations, RoomRepository rooms, StudyroomMetrics metrics) {
+        this.reservations = reservations; this.rooms = rooms; this.metrics = metrics;
+    }
+
+    @Override
+    public String name() { return "sweep"; }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RoomAvailabilityResponse> availability(LocalDate date, AvailabilityFilter filter) {
+        Instant start = filter.windowStart(date), end = filter.windowEnd(date);
+        Duration minFree = filter.minFree();
+
+        // 1) 조건에 맞는 방(id 정렬)과, 창과 겹치는 예약 전체(방-시작시간 정렬) 조회
+        var query = metrics.start();
+        var allRooms = rooms.findAllMatching(filter.location(), filter.minCapacity());
+        var allResvs = reservations.findAllOverlapping(start, end);
+        metrics.stop(query, "studyroom.availability.phase", "phase", "query");
+
+        // 2) 두 목록 모두 room_id 오름차순이므로 머지 조인하며 방별 free slot 계산
+        var sweep = metrics.start();
+        List<RoomAvailabilityResponse> result = new ArrayList<>(allRooms.size());
+        int k = 0;
+        for (Room room : allRooms) {
+            List<RoomAvailabilityResponse.ReservationWindow> windows = new ArrayList<>();
+            for (; k < allResvs.size() && allResvs.get(k).roomId() <= room.getId(); k++) {
+                ReservationSlot r = allResvs.get(k);
+                if (r.roomId().equals(room.getId())) windows.add(window(r));
+            }
+            RoomAvailabilityResponse r = AvailabilitySweep.sweep(
+                    room.getId(), room.getName(), room.getLocation(), room.getCapacity(),
+                    windows, start, end, minFree
+            );
+            if (r != null) result.add(r);
+        }
+        metrics.stop(sweep, "studyroom.availability.phase", "phase", "sweep");
+        return result;
+    }
+
+    /**
+     * 기간 [from, to]를 한 번의 정렬 스캔(room_id, start_at)으로 읽어 방/일자 단위로 흘려보낸다.
+     * 메모리에는 현재 방의 예약만 유지한다.
+     */
+    @Transactional(readOnly = true)
+    public void stream(LocalDate from, LocalDate to, Consumer<DailyRoomAvailabilityResponse> sink) {
+        Instant rangeStart = from.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant rangeEnd   = to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+        List<Room> allRooms = rooms.findAll(Sort.by("id"));
+        try (Stream<ReservationSlot> stream = reservations.streamAllOverlapping(rangeStart, rangeEnd)) {
+            Iterator<ReservationSlot> it = stream.iterator();
+            ReservationSlot next = it.hasNext() ? it.next() : null;
+
+            for (Room room : allRooms) {
+                // 예약 스트림은 room_id 오름차순이므로 방 목록과 머지 조인
+                List<RoomAvailabilityResponse.ReservationWindow> windows = new ArrayList<>();
+                while (next != null && next.roomId() <= room.getId()) {
+                    if (next.roomId().equals(room.getId())) windows.add(window(next));
+                    next = it.hasNext() ? it.next() : null;
+                }
+                AvailabilitySweep.sweepDays(
+                        room.getId(), room.getName(), room.getLocation(), room.getCapacity(),
+                        windows, from, to, sink);
+            }
+        }
+    }
+
+    private static RoomAvailabilityResponse.ReservationWindow window(ReservationSlot r) {
+        return new RoomAvailabilityResponse.ReservationWindow(r.id(), r.userId(), r.startAt(), r.endAt());
+    }
+}
@@ -0,0 +1,240 @@
+package com.synclife.studyroom.reservation.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.synclife.studyroom.common.ReadConsistency;
+import com.synclife.studyroom.common.StudyroomMetrics;
+import com.synclife.studyroom.reservation.domain.ReservationRepository;
+import com.synclife.studyroom.reservation.domain.ReservationSlot;
+import com.synclife.studyroom.room.dto.AvailabilityFilter;
+import com.synclife.studyroom.room.dto.RoomResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.synclife.studyroom.reservation.application.ReservationIndex.micros;
+
+/**
+ * 방별·UTC 날짜별 점유 비트맵. 하루를 bucket(기본 5분) 칸으로 나눠 예약이 조금이라도 걸친 칸을 1로 둔다
+ * (5분이면 288칸 = long 5개).
+ * - 날짜가 처음 조회될 때 인메모리 인덱스에서 만들고, 이후 예약 생성/취소 커밋 이벤트로 그 방·날짜만 갱신한다
+ * - "이 시각 창이 통째로 빈 방" 검색은 방마다 창 마스크와의 word 단위 AND 몇 번으로 끝난다
+ * - 기준은 여전히 reservations 테이블이다. 주기적으로 DB에서 다시 계산해 어긋난 날짜는 통째로 교체한다 (drift)
+ * 창 경계가 칸 경계와 어긋나 칸이 일부만 창에 걸치면, 그 칸만 걸린 방은 인덱스의 정확한 구간으로 한 번 더 확인한다.
+ */
+@Component
+public class OccupancyBitmaps {
+    private static final Logger log = LoggerFactory.getLogger(OccupancyBitmaps.class);
+    private static final long DAY = micros(Instant.EPOCH.plus(Duration.ofDays(1)));
+
+    private final ReservationIndex index;
+    private final ReservationRepository reservations;
+    private final AvailabilityVersions versions;
+    private final StudyroomMetrics metrics;
+    private final boolean enabled;
+    private final long bucket;      // micros
+    private final int buckets;
+    private final int words;
+    private final Cache<LocalDate, Day> days;
+
+    /** 하루치: 방 id → 점유 비트. 배열은 교체만 하고 제자리에서 고치지 않는다. 예약이 없는 방은 항목이 없다. */
+    static final class Day {
+        final Map<Long, long[]> rooms = new ConcurrentHashMap<>();
+    }
+
+    public OccupancyBitmaps(ReservationIndex index, ReservationRepository reservations,
+                            AvailabilityVersions versions, StudyroomMetrics metrics,
+                            @Value("${studyroom.availability.bitmap.enabled:true}") boolean enabled,
+                            @Value("${studyroom.availability.bitmap.bucket:5m}") Duration bucket,
+                            @Value("${studyroom.availability.bitmap.max-days:62}") long maxDays) {
+        if (bucket.compareTo(Duration.ofMinutes(1)) < 0 || Duration.ofDays(1).toNanos() % bucket.toNanos() != 0)
+            throw new IllegalStateException("studyroom.availability.bitmap.bucket must be >= 1m and divide 24h: " + bucket);
+        this.index = index;
+        this.reservations = reservations;
+        this.versions = versions;
+        this.metrics = metrics;
+        this.enabled = enabled;
+        this.bucket = bucket.toNanos() / 1_000;
+        this.buckets = (int) (DAY / this.bucket);
+        this.words = (buckets + 63) >>> 6;
+        this.days = Caffeine.newBuilder().maximumSize(maxDays).build();
+    }
+
+    /** 인덱스가 준비되어야 비트맵을 만들 수 있다. 날짜가 인덱스 창(ReservationIndex.covers) 안인지는 호출하는 쪽에서 확인한다 */
+    public boolean isReady() {
+        return enabled && index.isReady();
+    }
+
+    /**
+     * date(UTC)의 filter 시각 창 [windowStart, windowEnd)가 통째로 빈 방을 방 id 오름차순으로 반환한다.
+     * 방 조건(location/minCapacity)도 filter로 거르며, minFreeMinutes는 보지 않는다. DB 접근 없음.
+     */
+    public List<RoomResponse> freeRooms(LocalDate date, AvailabilityFilter filter) {
+        Instant windowStart = filter.windowStart(date), windowEnd = filter.windowEnd(date);
+        long dayStart = dayStart(date);
+        long from = micros(windowStart) - dayStart, to = micros(windowEnd) - dayStart;
+        long[] touched = mask((int) (from / bucket), (int) Math.ceilDiv(to, bucket));   // 창과 조금이라도 겹치는 칸
+        long[] inner = mask((int) Math.ceilDiv(from, bucket), (int) (to / bucket));     // 창 안에 통째로 들어가는 칸
+        boolean aligned = Arrays.equals(touched, inner);
+
+        Day day = day(date);
+        List<RoomResponse> free = new ArrayList<>();
+        for (ReservationIndex.RoomSlots slots : index.rooms()) {
+            if (!filter.matchesRoom(slots.location(), slots.capacity())) continue;
+            long[] bits = day.rooms.get(slots.roomId());
+            boolean isFree = bits == null || !intersects(bits, touched)
+                    || (!aligned && !intersects(bits, inner) && !index.overlaps(slots.roomId(), windowStart, windowEnd));
+            if (isFree) free.add(new RoomResponse(slots.roomId(), slots.name(), slots.location(), slots.capacity()));
+        }
+        return free;
+    }
+
+    // 인덱스 갱신(HIGHEST_PRECEDENCE) 이후에 실행되어야 취소 시 인덱스에서 다시 계산할 수 있다.
+    // 버전(+1)보다도 뒤여야 한다: 비트가 먼저 바뀌고 버전이 나중에 오르면, 그 사이 reconcile이 커밋 전 스냅숏으로 덮어쓴다.
+    @Order(Ordered.HIGHEST_PRECEDENCE + 2)
+    @TransactionalEventListener
+    public void on(ReservationChangedEvent event) {
+        if (!enabled) return;
+        for (LocalDate date : AvailabilityVersions.touchedDates(event.startAt(), event.endAt())) {
+            // 만들어 둔 날짜만 갱신 (없는 날짜는 처음 조회될 때 갱신된 인덱스에서 만든다)
+            days.asMap().computeIfPresent(date, (d, day) -> {
+                apply(day, d, event);
+                return day;
+            });
+        }
+    }
+
+    /**
+     * 만들어 둔 날짜마다 reservations 테이블(프라이머리)로 다시 계산해 비교하고, 다르면 교체한다.
+     * 읽는 사이 그 날짜에 커밋이 있었으면 (버전이 바뀜) 이번 주기는 건너뛴다.
+     * 커밋 리스너는 버전을 올린 뒤에 비트를 고치므로(on의 순서), 버전이 그대로면 스냅숏 이후 비트에 반영된 커밋도 없다.
+     */
+    @Scheduled(fixedDelayString = "${studyroom.availability.bitmap.reconcile-interval:10m}",
+               initialDelayString = "${studyroom.availability.bitmap.reconcile-interval:10m}")
+    public void reconcile() {
+        if (!isReady()) return;
+        for (LocalDate date : List.copyOf(days.asMap().keySet())) {
+            AvailabilityVersions.Version before = versions.current(date);
+            Day fresh = ReadConsistency.primary(() -> load(date));
+            days.asMap().computeIfPresent(date, (d, cached) -> {
+                if (!versions.current(d).equals(before) || same(cached, fresh)) return cached;
+                metrics.count("studyroom.availability.bitmap.drift");
+                log.warn("occupancy bitmap drift on {}: rebuilt from reservations", d);
+                return fresh;
+            });
+        }
+    }
+
+    private Day day(LocalDate date) {
+        return days.get(date, this::build);
+    }
+
+    private Day build(LocalDate date) {
+        long dayStart = dayStart(date);
+        Day day = new Day();
+        for (ReservationIndex.RoomSlots slots : index.rooms()) {
+            long[] bits = bits(slots, dayStart);
+            if (bits != null) day.rooms.put(slots.roomId(), bits);
+        }
+        return day;
+    }
+
+    private Day load(LocalDate date) {
+        long dayStart = dayStart(date);
+        Instant start = ReservationIndex.instant(dayStart), end = ReservationIndex.instant(dayStart + DAY);
+        Day day = new Day();
+        for (ReservationSlot r : reservations.findAllOverlapping(start, end)) {
+            long[] bits = day.rooms.computeIfAbsent(r.roomId(), k -> new long[words]);
+            set(bits, micros(r.startAt()) - dayStart, micros(r.endAt()) - dayStart);
+        }
+        return day;
+    }
+
+    private void apply(Day day, LocalDate date, ReservationChangedEvent e) {
+        long dayStart = dayStart(date);
+        switch (e.type()) {
+            case CREATED -> {
+                long[] bits = day.rooms.get(e.roomId());
+                long[] next = bits == null ? new long[words] : bits.clone();
+                set(next, micros(e.startAt()) - dayStart, micros(e.endAt()) - dayStart);
+                day.rooms.put(e.roomId(), next);
+            }
+            case CANCELLED -> {
+                // 경계 칸은 맞닿은 이웃 예약과 공유할 수 있으므로 비트를 지우지 않고 (이미 갱신된) 인덱스에서 다시 계산
+                ReservationIndex.RoomSlots slots = index.slots(e.roomId());
+                long[] bits = slots == null ? null : bits(slots, dayStart);
+                if (bits == null) day.rooms.remove(e.roomId());
+                else day.rooms.put(e.roomId(), bits);
+            }
+        }
+    }
+
+    /** 방 하나의 하루치 비트. 그날 예약이 없으면 null */
+    private long[] bits(ReservationIndex.RoomSlots slots, long dayStart) {
+        long[] bits = null;
+        for (int k = slots.firstEndAfter(dayStart); k < slots.size() && slots.starts()[k] < dayStart + DAY; k++) {
+            if (bits == null) bits = new long[words];
+            set(bits, slots.starts()[k] - dayStart, slots.ends()[k] - dayStart);
+        }
+        return bits;
+    }
+
+    /** 하루 시작 기준 [s, e) micros가 걸친 칸을 1로 (하루 밖은 잘라낸다) */
+    private void set(long[] bits, long s, long e) {
+        int first = (int) Math.max(0, Math.floorDiv(s, bucket));
+        int last = (int) Math.min(buckets, Math.ceilDiv(e, bucket));
+        setRange(bits, first, last);
+    }
+
+    private long[] mask(int from, int to) {
+        long[] mask = new long[words];
+        setRange(mask, from, to);
+        return mask;
+    }
+
+    /** 칸 [from, to)를 1로: 양끝 word는 마스크 OR, 사이는 통째로 */
+    static void setRange(long[] bits, int from, int to) {
+        if (from >= to) return;
+        int w0 = from >>> 6, w1 = (to - 1) >>> 6;
+        long head = -1L << from, tail = -1L >>> (63 - ((to - 1) & 63));
+        if (w0 == w1) {
+            bits[w0] |= head & tail;
+            return;
+        }
+        bits[w0] |= head;
+        for (int w = w0 + 1; w < w1; w++) bits[w] = -1L;
+        bits[w1] |= tail;
+    }
+
+    static boolean intersects(long[] a, long[] b) {
+        for (int w = 0; w < a.length; w++) if ((a[w] & b[w]) != 0) return true;
+        return false;
+    }
+
+    private static boolean same(Day a, Day b) {
+        if (a.rooms.size() != b.rooms.size()) return false;
+        for (Map.Entry<Long, long[]> e : a.rooms.entrySet()) {
+            if (!Arrays.equals(e.getValue(), b.rooms.get(e.getKey()))) return false;
+        }
+        return true;
+    }
+
+    private static long dayStart(LocalDate date) {
+        return micros(date.atStartOfDay(ZoneOffset.UTC).toInstant());
+    }
+}
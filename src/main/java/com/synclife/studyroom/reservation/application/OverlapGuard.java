@@ -0,0 +1,115 @@
+package com.synclife.studyroom.reservation.application;
+
+import com.synclife.studyroom.common.OverlapConflictException;
+import com.synclife.studyroom.common.StudyroomMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 예약 INSERT 전에 프로세스 안에서 겹침을 미리 걸러낸다 (인기 슬롯 몰림 시 DB 왕복/예외 비용 절감).
+ * - 진행 중 예약: 방별 in-flight 목록. 트랜잭션 종료(afterCompletion) 시 제거된다
+ * - 커밋된 예약: {@link ReservationIndex}. singleInstance일 때만 본다.
+ *   인덱스는 이 인스턴스의 커밋만 반영하므로, 다른 노드에서 취소된 예약이 남아 있으면 실제로는 빈 슬롯을
+ *   DB에 묻지도 않고 계속 409로 거절하게 된다. 그래서 여러 노드가 쓰는 배포(기본값)에서는 인덱스 적중을 거절하지 않고
+ *   INSERT로 보내 DB가 판정하게 한다. singleInstance면 커밋 시 인덱스가 afterCompletion보다 먼저 갱신(AFTER_COMMIT)되므로
+ *   진행 중 → 커밋된 예약으로 넘어가는 사이에 빈틈이 없다
+ * - 방 단위 잠금은 고정 개수의 스트라이프로 나눠 방끼리는 경합하지 않는다
+ * 정확성의 기준은 항상 PostgreSQL EXCLUDE 제약이다. 다른 노드의 예약은 보이지 않으므로 여기를 통과해도 DB에서 409가 날 수 있다.
+ * 반대로 진행 중 예약이 롤백되면 드물게 불필요한 409가 날 수 있다 (그 요청이 끝나는 동안만).
+ */
+@Component
+public class OverlapGuard {
+
+    private static final int STRIPES = 64;
+
+    private final ReservationIndex index;
+    private final StudyroomMetrics metrics;
+    private final boolean enabled;
+    private final boolean singleInstance;
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+    @SuppressWarnings("unchecked")
+    private final Map<Long, List<InFlight>>[] inFlight = new Map[STRIPES];
+
+    record InFlight(Instant startAt, Instant endAt) {
+        boolean overlaps(Instant start, Instant end) {
+            return startAt.isBefore(end) && start.isBefore(endAt);
+        }
+    }
+
+    public OverlapGuard(ReservationIndex index, StudyroomMetrics metrics,
+                        @Value("${studyroom.reservation.overlap-precheck.enabled:true}") boolean enabled,
+                        @Value("${studyroom.reservation.overlap-precheck.single-instance:false}") boolean singleInstance) {
+        this.index = index;
+        this.metrics = metrics;
+        this.enabled = enabled;
+        this.singleInstance = singleInstance;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+            inFlight[i] = new HashMap<>();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 동안 room의 [start, end)를 선점한다.
+     * 다른 진행 중 예약과 (singleInstance면 커밋된 예약과도) 겹치면 OverlapConflictException (409).
+     * 트랜잭션 동기화가 활성화된 상태에서 호출해야 한다.
+     */
+    public void acquire(Long roomId, Instant start, Instant end) {
+        if (!enabled) return;
+        int stripe = stripe(roomId);
+        InFlight claim = new InFlight(start, end);
+
+        locks[stripe].lock();
+        try {
+            if (singleInstance && index.isReady() && index.overlaps(roomId, start, end)) {
+                reject("committed");
+            }
+            List<InFlight> claims = inFlight[stripe].computeIfAbsent(roomId, k -> new ArrayList<>());
+            for (InFlight other : claims) {
+                if (other.overlaps(start, end)) reject("in_flight");
+            }
+            claims.add(claim);
+        } finally {
+            locks[stripe].unlock();
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                release(roomId, claim);
+            }
+        });
+    }
+
+    private void release(Long roomId, InFlight claim) {
+        int stripe = stripe(roomId);
+        locks[stripe].lock();
+        try {
+            inFlight[stripe].computeIfPresent(roomId, (k, claims) -> {
+                claims.remove(claim);
+                return claims.isEmpty() ? null : claims;
+            });
+        } finally {
+            locks[stripe].unlock();
+        }
+    }
+
+    private void reject(String reason) {
+        metrics.count("studyroom.reservation.precheck.rejected", "reason", reason);
+        throw new OverlapConflictException();
+    }
+
+    private static int stripe(Long roomId) {
+        long h = roomId * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 58) & (STRIPES - 1);
+    }
+}
@@ -0,0 +1,112 @@
+package com.synclife.studyroom.reservation.application;
+
+import com.synclife.studyroom.reservation.domain.ReservationConstraints;
+import com.synclife.studyroom.room.domain.Room;
+import com.synclife.studyroom.room.domain.RoomRepository;
+import com.synclife.studyroom.room.dto.AvailabilityFilter;
+import com.synclife.studyroom.room.dto.RoomAvailabilityResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * 빈 구간 계산을 PostgreSQL로 내린 엔진 (engine = postgres, PG 14+ multirange 필요).
+ * 방별로 {@code range_agg(period)}를 구해 하루 구간 multirange에서 빼고, 남은 구간만 돌려받는다.
+ * 결과는 Java 스윕({@link DatabaseAvailabilityReader})과 동일해야 한다.
+ */
+@Component
+public class PostgresRangeAvailabilityEngine implements AvailabilityEngine {
+
+    // kind: 'F' = free slot, 'R' = reservation window. 방 → 종류 → 시작시간 순
+    // 파라미터: 창 시작, 창 끝, location x2, minCapacity x2, (가장 이른 시작, 창 끝), 최소 빈 시간(초) x2, (가장 이른 시작, 창 끝)
+    // start_at 범위 조건은 파티션 프루닝용 (예약은 최대 7일이므로 창 시작 - 7일 이후에 시작한 예약만 겹칠 수 있다)
+    private static final String SQL = """
+        WITH win AS (SELECT tstzrange(?::timestamptz, ?::timestamptz, '[)') AS d),
+        sel AS (
+            SELECT ro.id FROM rooms ro
+            WHERE (?::text IS NULL OR ro.location = ?::text)
+              AND (?::int IS NULL OR ro.capacity >= ?::int)
+        ),
+        busy AS (
+            SELECT r.room_id, range_agg(r.period) AS taken
+            FROM reservations r, win
+            WHERE r.start_at > ?::timestamptz AND r.start_at < ?::timestamptz
+              AND r.period && win.d AND r.room_id IN (SELECT id FROM sel)
+            GROUP BY r.room_id
+        )
+        SELECT sel.id AS room_id, 'F' AS kind, NULL::bigint AS id, NULL::bigint AS user_id,
+               lower(f) AS start_at, upper(f) AS end_at
+        FROM sel
+        CROSS JOIN win
+        LEFT JOIN busy b ON b.room_id = sel.id
+        CROSS JOIN LATERAL unnest(tstzmultirange(win.d) - coalesce(b.taken, '{}'::tstzmultirange)) AS f
+        WHERE ?::bigint IS NULL OR upper(f) - lower(f) >= make_interval(secs => ?::bigint)
+        UNION ALL
+        SELECT r.room_id, 'R', r.id, r.user_id, r.start_at, r.end_at
+        FROM reservations r, win
+        WHERE r.start_at > ?::timestamptz AND r.start_at < ?::timestamptz
+          AND r.period && win.d AND r.room_id IN (SELECT id FROM sel)
+        ORDER BY room_id, kind, start_at
+        """;
+
+    private final JdbcTemplate jdbc;
+    private final RoomRepository rooms;
+
+    public PostgresRangeAvailabilityEngine(JdbcTemplate jdbc, RoomRepository rooms) {
+        this.jdbc = jdbc; this.rooms = rooms;
+    }
+
+    @Override
+    public String name() { return "postgres"; }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RoomAvailabilityResponse> availability(LocalDate date, AvailabilityFilter filter) {
+        Instant start = filter.windowStart(date), end = filter.windowEnd(date);
+        Duration minFree = filter.minFree();
+        Long minFreeSeconds = minFree != null ? minFree.toSeconds() : null;
+        OffsetDateTime from = OffsetDateTime.ofInstant(start, ZoneOffset.UTC), to = OffsetDateTime.ofInstant(end, ZoneOffset.UTC);
+        OffsetDateTime earliestStart = from.minus(ReservationConstraints.MAX_DURATION);
+
+        Map<Long, List<RoomAvailabilityResponse.ReservationWindow>> resvByRoom = new HashMap<>();
+        Map<Long, List<RoomAvailabilityResponse.FreeSlot>> freeByRoom = new HashMap<>();
+
+        jdbc.query(SQL, rs -> {
+            long roomId = rs.getLong("room_id");
+            Instant s = rs.getObject("start_at", OffsetDateTime.class).toInstant();
+            Instant e = rs.getObject("end_at", OffsetDateTime.class).toInstant();
+            if ("F".equals(rs.getString("kind"))) {
+                freeByRoom.computeIfAbsent(roomId, k -> new ArrayList<>())
+                        .add(new RoomAvailabilityResponse.FreeSlot(s, e));
+            } else {
+                resvByRoom.computeIfAbsent(roomId, k -> new ArrayList<>())
+                        .add(new RoomAvailabilityResponse.ReservationWindow(
+                                rs.getLong("id"), rs.getLong("user_id"), s, e));
+            }
+        },
+                from, to,
+                filter.location(), filter.location(),
+                filter.minCapacity(), filter.minCapacity(),
+                earliestStart, to,
+                minFreeSeconds, minFreeSeconds,
+                earliestStart, to);
+
+        List<RoomAvailabilityResponse> result = new ArrayList<>();
+        for (Room room : rooms.findAllMatching(filter.location(), filter.minCapacity())) {
+            var free = freeByRoom.getOrDefault(room.getId(), List.of());
+            if (minFree != null && free.isEmpty()) continue;
+            result.add(new RoomAvailabilityResponse(
+                    room.getId(), room.getName(), room.getLocation(), room.getCapacity(),
+                    resvByRoom.getOrDefault(room.getId(), List.of()), free
+            ));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,25 @@
+package com.synclife.studyroom.reservation.application;
+
+import java.time.Instant;
+
+/**
+ * 예약 생성/취소 이벤트. 트랜잭션 커밋 이후(@TransactionalEventListener)에만 소비된다.
+ */
+public record ReservationChangedEvent(
+        Type type,
+        Long reservationId,
+        Long roomId,
+        Long userId,
+        Instant startAt,
+        Instant endAt
+) {
+    public enum Type { CREATED, CANCELLED }
+
+    public static ReservationChangedEvent created(Long id, Long roomId, Long userId, Instant startAt, Instant endAt) {
+        return new ReservationChangedEvent(Type.CREATED, id, roomId, userId, startAt, endAt);
+    }
+
+    public static ReservationChangedEvent cancelled(Long id, Long roomId, Long userId, Instant startAt, Instant endAt) {
+        return new ReservationChangedEvent(Type.CANCELLED, id, roomId, userId, startAt, endAt);
+    }
+}
@@ -0,0 +1,423 @@
+package com.synclife.studyroom.reservation.application;
+
+import com.synclife.studyroom.common.ReadConsistency;
+import com.synclife.studyroom.reservation.domain.ReservationConstraints;
+import com.synclife.studyroom.reservation.domain.ReservationRepository;
+import com.synclife.studyroom.reservation.domain.ReservationSlot;
+import com.synclife.studyroom.room.application.RoomCreatedEvent;
+import com.synclife.studyroom.room.domain.Room;
+import com.synclife.studyroom.room.domain.RoomRepository;
+import com.synclife.studyroom.room.dto.AvailabilityFilter;
+import com.synclife.studyroom.room.dto.DailyRoomAvailabilityResponse;
+import com.synclife.studyroom.room.dto.RoomAvailabilityResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 방별 예약 구간 인메모리 인덱스.
+ * - 기동 시 reservations 테이블로 워밍, 이후 create/cancel 커밋 이벤트로 갱신
+ * - 담는 구간은 오늘(UTC) - MAX_DURATION ~ 오늘 + horizonDays의 이동 창. 매일 새로 들어온 날짜를 읽고 창 앞에서 끝난 예약은 버린다.
+ *   창 밖 조회는 covers()가 false이므로 DB 경로로 간다
+ * - 방마다 시작시간 정렬된 primitive 배열(epoch micros)을 copy-on-write로 보관
+ * - 겹침 판정의 기준(source of truth)은 여전히 PostgreSQL EXCLUDE 제약이다.
+ *   다른 노드에서 커밋된 변경은 반영되지 않으므로 단일 인스턴스 배포를 전제로 한다.
+ */
+@Component
+public class ReservationIndex {
+    private static final Logger log = LoggerFactory.getLogger(ReservationIndex.class);
+
+    private final ReservationRepository reservations;
+    private final RoomRepository rooms;
+    private final boolean enabled;
+    private final int horizonDays;
+    private final Clock clock;
+
+    private volatile ConcurrentNavigableMap<Long, RoomSlots> entries = new ConcurrentSkipListMap<>();
+    private volatile boolean ready;
+    // 빠짐없이 담고 있는 구간 [floor, ceiling) (epoch micros). 창 밖에 커밋된 예약도 이벤트로 들어오지만 온전하다고 보지 않는다
+    private volatile long floor, ceiling;
+
+    // 워밍 중 도착한 이벤트는 스냅샷 교체 후 다시 적용한다.
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<Object> pending;
+
+    @Autowired
+    public ReservationIndex(ReservationRepository reservations, RoomRepository rooms,
+                            @Value("${studyroom.availability.index.enabled:true}") boolean enabled,
+                            @Value("${studyroom.availability.index.horizon-days:180}") int horizonDays) {
+        this(reservations, rooms, enabled, horizonDays, Clock.systemUTC());
+    }
+
+    ReservationIndex(ReservationRepository reservations, RoomRepository rooms, boolean enabled, int horizonDays, Clock clock) {
+        if (horizonDays < 0) throw new IllegalStateException("studyroom.availability.index.horizon-days must be >= 0: " + horizonDays);
+        this.reservations = reservations; this.rooms = rooms; this.enabled = enabled;
+        this.horizonDays = horizonDays; this.clock = clock;
+    }
+
+    public boolean isReady() { return ready; }
+
+    /** UTC 날짜 [from, to] 전체가 인덱스 창 안이라 인덱스만으로 답할 수 있는지 */
+    public boolean covers(LocalDate from, LocalDate to) {
+        return ready
+                && micros(from.atStartOfDay(ZoneOffset.UTC).toInstant()) >= floor
+                && micros(to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant()) <= ceiling;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) return;
+        lock.lock();
+        try { pending = new ArrayList<>(); } finally { lock.unlock(); }
+
+        long[] window = window();
+        ConcurrentNavigableMap<Long, RoomSlots> snapshot = new ConcurrentSkipListMap<>();
+        try {
+            // 스냅샷 이후 변경은 이벤트로만 들어오므로 레플리카(지연 가능)가 아니라 프라이머리에서 읽는다
+            ReadConsistency.primary(() -> load(snapshot, window[0], window[1]));
+        } catch (RuntimeException e) {
+            lock.lock();
+            try { pending = null; } finally { lock.unlock(); }
+            throw e;
+        }
+
+        lock.lock();
+        try {
+            for (Object event : pending) apply(snapshot, event);
+            pending = null;
+            entries = snapshot;
+            floor = window[0];
+            ceiling = window[1];
+            ready = true;
+        } finally {
+            lock.unlock();
+        }
+        log.info("reservation index warmed: rooms={}, reservations={}, window=[{}, {})", snapshot.size(),
+                snapshot.values().stream().mapToInt(RoomSlots::size).sum(), instant(window[0]), instant(window[1]));
+    }
+
+    /**
+     * 날짜가 바뀌면 창을 옮긴다: 새로 창에 들어온 구간의 예약을 (워밍처럼 프라이머리에서) 읽어 합치고,
+     * 창 시작 전에 끝난 예약은 버린다. 읽는 사이 도착한 이벤트는 합친 뒤 다시 적용한다.
+     */
+    @Scheduled(cron = "${studyroom.availability.index.roll-cron:0 1 0 * * *}", zone = "UTC")
+    public void roll() {
+        if (!ready) return;
+        long[] window = window();
+        if (window[1] > ceiling) {
+            lock.lock();
+            try { pending = new ArrayList<>(); } finally { lock.unlock(); }
+
+            long from = ceiling;
+            Map<Long, List<ReservationSlot>> added;
+            try {
+                added = byRoom(ReadConsistency.primary(
+                        () -> reservations.findAllOverlapping(instant(from), instant(window[1]))));
+            } catch (RuntimeException e) {
+                lock.lock();
+                try { pending = null; } finally { lock.unlock(); }
+                throw e;
+            }
+
+            lock.lock();
+            try {
+                // 창 경계에 걸친 예약은 이미 있으므로 id로 걸러 합친다 (with)
+                added.forEach((roomId, list) -> entries.computeIfPresent(roomId, (id, slots) -> {
+                    for (ReservationSlot r : list) slots = slots.with(r.id(), r.userId(), micros(r.startAt()), micros(r.endAt()));
+                    return slots;
+                }));
+                for (Object event : pending) apply(entries, event);
+                pending = null;
+                ceiling = window[1];
+            } finally {
+                lock.unlock();
+            }
+        }
+        if (window[0] > floor) {
+            // 창을 먼저 줄이고 버린다: 버리는 중에도 covers()가 참인 날짜는 온전하다
+            floor = window[0];
+            lock.lock();
+            try {
+                entries.replaceAll((id, slots) -> slots.endingAfter(window[0]));
+            } finally {
+                lock.unlock();
+            }
+        }
+        log.info("reservation index rolled: window=[{}, {}), reservations={}", instant(floor), instant(ceiling),
+                entries.values().stream().mapToInt(RoomSlots::size).sum());
+    }
+
+    /** 오늘(UTC) 기준 창 {오늘 - MAX_DURATION, 오늘 + horizonDays + 1일} (epoch micros) */
+    private long[] window() {
+        Instant today = LocalDate.now(clock).atStartOfDay(ZoneOffset.UTC).toInstant();
+        return new long[]{
+                micros(today.minus(ReservationConstraints.MAX_DURATION)),
+                micros(today.plus(Duration.ofDays(horizonDays + 1L)))
+        };
+    }
+
+    private void load(ConcurrentNavigableMap<Long, RoomSlots> snapshot, long from, long to) {
+        for (Room room : rooms.findAll()) {
+            snapshot.put(room.getId(), RoomSlots.empty(room.getId(), room.getName(), room.getLocation(), room.getCapacity()));
+        }
+        // 창과 겹치는 예약만 (start_at 범위 조건으로 해당 월 파티션만 읽는다)
+        byRoom(reservations.findAllOverlapping(instant(from), instant(to))).forEach((roomId, list) -> {
+            RoomSlots slots = snapshot.get(roomId);
+            if (slots != null) snapshot.put(roomId, slots.withAll(list));
+        });
+    }
+
+    private static Map<Long, List<ReservationSlot>> byRoom(List<ReservationSlot> slots) {
+        Map<Long, List<ReservationSlot>> byRoom = new HashMap<>();
+        for (ReservationSlot r : slots) byRoom.computeIfAbsent(r.roomId(), k -> new ArrayList<>()).add(r);
+        return byRoom;
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void on(ReservationChangedEvent event) { record(event); }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void on(RoomCreatedEvent event) { record(event); }
+
+    private void record(Object event) {
+        if (!enabled) return;
+        lock.lock();
+        try {
+            if (pending != null) pending.add(event);
+            apply(entries, event);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void apply(ConcurrentNavigableMap<Long, RoomSlots> target, Object event) {
+        if (event instanceof RoomCreatedEvent e) {
+            target.putIfAbsent(e.roomId(), RoomSlots.empty(e.roomId(), e.name(), e.location(), e.capacity()));
+        } else if (event instanceof ReservationChangedEvent e) {
+            target.computeIfPresent(e.roomId(), (id, slots) -> switch (e.type()) {
+                case CREATED -> slots.with(e.reservationId(), e.userId(), micros(e.startAt()), micros(e.endAt()));
+                case CANCELLED -> slots.without(e.reservationId());
+            });
+        }
+    }
+
+    /**
+     * date(UTC)의 필터 창과 겹치는 예약/빈 구간을 방 id 오름차순으로 반환한다. DB 접근 없음.
+     * 방 조건(location/minCapacity)도 메모리의 방 정보로 거른다.
+     */
+    public List<RoomAvailabilityResponse> availability(LocalDate date, AvailabilityFilter filter) {
+        Instant start = filter.windowStart(date), end = filter.windowEnd(date);
+        long from = micros(start), to = micros(end);
+        Duration minFree = filter.minFree();
+
+        List<RoomAvailabilityResponse> result = new ArrayList<>(entries.size());
+        for (RoomSlots slots : entries.values()) {
+            if (!filter.matchesRoom(slots.location(), slots.capacity())) continue;
+            RoomAvailabilityResponse r = AvailabilitySweep.sweep(
+                    slots.roomId(), slots.name(), slots.location(), slots.capacity(),
+                    slots.windows(from, to), start, end, minFree
+            );
+            if (r != null) result.add(r);
+        }
+        return result;
+    }
+
+    /**
+     * availability(date, filter)와 같은 내용을 AvailabilityBinaryEncoder 형식으로 out에 쓴다.
+     * 방 배열에서 바로 인코딩하므로 응답 DTO를 만들지 않는다. dictionary면 (필터와 무관하게) 모든 방의 사전을 앞에 붙인다.
+     */
+    public void writeBinary(LocalDate date, AvailabilityFilter filter, boolean dictionary, OutputStream out) throws IOException {
+        long from = micros(filter.windowStart(date)), to = micros(filter.windowEnd(date));
+        Duration minFree = filter.minFree();
+        // 사전과 본문이 같은 방 집합을 보도록 한 번만 훑는다 (RoomSlots는 불변)
+        List<RoomSlots> snapshot = List.copyOf(entries.values());
+
+        var encoder = new AvailabilityBinaryEncoder(out, from, to, minFree == null ? -1 : minFree.toNanos() / 1_000);
+        encoder.header(dictionary);
+        if (dictionary) {
+            for (RoomSlots slots : snapshot) encoder.dictionaryRoom(slots.roomId(), slots.name(), slots.location(), slots.capacity());
+            encoder.endDictionary();
+        }
+        for (RoomSlots slots : snapshot) {
+            if (!filter.matchesRoom(slots.location(), slots.capacity())) continue;
+            int lo = slots.firstEndAfter(from), hi = lo;
+            while (hi < slots.size() && slots.starts()[hi] < to) hi++;
+            encoder.room(slots.roomId(), slots.ids(), slots.userIds(), slots.starts(), slots.ends(), lo, hi);
+        }
+        encoder.finish();
+    }
+
+    /**
+     * 이 인스턴스에 커밋된 예약 중 room의 [start, end)와 겹치는 것이 있는지. 인덱스에 없는 방이면 false.
+     * 창 밖 구간은 빠진 예약이 있을 수 있어 false가 "겹침 없음"을 뜻하지 않는다 (사전 검사용, 최종 판정은 DB)
+     */
+    public boolean overlaps(Long roomId, Instant start, Instant end) {
+        RoomSlots slots = entries.get(roomId);
+        if (slots == null) return false;
+        int k = slots.firstEndAfter(micros(start));
+        return k < slots.size() && slots.starts()[k] < micros(end);
+    }
+
+    /** 방 하나의 date(UTC) 가용성. 인덱스에 없는 방이면 empty */
+    public Optional<RoomAvailabilityResponse> roomAvailability(LocalDate date, Long roomId) {
+        RoomSlots slots = entries.get(roomId);
+        if (slots == null) return Optional.empty();
+        Instant start = AvailabilityFilter.NONE.windowStart(date), end = AvailabilityFilter.NONE.windowEnd(date);
+        return Optional.of(AvailabilitySweep.sweep(
+                slots.roomId(), slots.name(), slots.location(), slots.capacity(),
+                slots.windows(micros(start), micros(end)), start, end));
+    }
+
+    /**
+     * 기간 [from, to]를 방 id 오름차순, 일자 오름차순으로 sink에 흘려보낸다. DB 접근 없음.
+     */
+    public void stream(LocalDate from, LocalDate to, Consumer<DailyRoomAvailabilityResponse> sink) {
+        long rangeStart = micros(from.atStartOfDay(ZoneOffset.UTC).toInstant());
+        long rangeEnd   = micros(to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant());
+        for (RoomSlots slots : entries.values()) {
+            AvailabilitySweep.sweepDays(
+                    slots.roomId(), slots.name(), slots.location(), slots.capacity(),
+                    slots.windows(rangeStart, rangeEnd), from, to, sink);
+        }
+    }
+
+    /** 방 하나의 현재 스냅샷. 인덱스에 없는 방이면 null */
+    RoomSlots slots(Long roomId) {
+        return entries.get(roomId);
+    }
+
+    /** 모든 방의 현재 스냅샷 (방 id 오름차순) */
+    Collection<RoomSlots> rooms() {
+        return entries.values();
+    }
+
+    static long micros(Instant t) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, t);
+    }
+
+    static Instant instant(long micros) {
+        return Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+
+    /**
+     * 방 하나의 불변 스냅샷. 같은 방 안에서는 EXCLUDE 제약으로 예약이 겹치지 않으므로
+     * 시작시간으로 정렬하면 종료시간도 정렬되어 이분 탐색이 가능하다.
+     */
+    record RoomSlots(Long roomId, String name, String location, int capacity,
+                     long[] ids, long[] userIds, long[] starts, long[] ends) {
+
+        static RoomSlots empty(Long roomId, String name, String location, int capacity) {
+            return new RoomSlots(roomId, name, location, capacity, new long[0], new long[0], new long[0], new long[0]);
+        }
+
+        int size() { return ids.length; }
+
+        RoomSlots withAll(List<ReservationSlot> list) {
+            List<ReservationSlot> sorted = new ArrayList<>(list);
+            sorted.sort(Comparator.comparing(ReservationSlot::startAt));
+            int n = sorted.size();
+            long[] i = new long[n], u = new long[n], s = new long[n], e = new long[n];
+            for (int k = 0; k < n; k++) {
+                ReservationSlot r = sorted.get(k);
+                i[k] = r.id(); u[k] = r.userId();
+                s[k] = micros(r.startAt()); e[k] = micros(r.endAt());
+            }
+            return new RoomSlots(roomId, name, location, capacity, i, u, s, e);
+        }
+
+        RoomSlots with(long id, long userId, long start, long end) {
+            for (long existing : ids) if (existing == id) return this;
+            int pos = firstStartAtOrAfter(start);
+            return new RoomSlots(roomId, name, location, capacity,
+                    insert(ids, pos, id), insert(userIds, pos, userId),
+                    insert(starts, pos, start), insert(ends, pos, end));
+        }
+
+        /** t 이후에 끝나는 예약만 남긴다 (창 앞에서 끝난 예약 버리기) */
+        RoomSlots endingAfter(long t) {
+            int k = firstEndAfter(t);
+            if (k == 0) return this;
+            return new RoomSlots(roomId, name, location, capacity,
+                    Arrays.copyOfRange(ids, k, ids.length), Arrays.copyOfRange(userIds, k, userIds.length),
+                    Arrays.copyOfRange(starts, k, starts.length), Arrays.copyOfRange(ends, k, ends.length));
+        }
+
+        RoomSlots without(long id) {
+            for (int k = 0; k < ids.length; k++) {
+                if (ids[k] == id) {
+                    return new RoomSlots(roomId, name, location, capacity,
+                            remove(ids, k), remove(userIds, k), remove(starts, k), remove(ends, k));
+                }
+            }
+            return this;
+        }
+
+        /** [from, to)와 겹치는 예약을 시작시간 순으로 반환 */
+        List<RoomAvailabilityResponse.ReservationWindow> windows(long from, long to) {
+            int k = firstEndAfter(from);
+            List<RoomAvailabilityResponse.ReservationWindow> out = new ArrayList<>();
+            for (; k < ids.length && starts[k] < to; k++) {
+                out.add(new RoomAvailabilityResponse.ReservationWindow(
+                        ids[k], userIds[k], instant(starts[k]), instant(ends[k])));
+            }
+            return out;
+        }
+
+        int firstEndAfter(long t) {
+            int lo = 0, hi = ends.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (ends[mid] > t) hi = mid; else lo = mid + 1;
+            }
+            return lo;
+        }
+
+        int firstStartAtOrAfter(long t) {
+            int lo = 0, hi = starts.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (starts[mid] >= t) hi = mid; else lo = mid + 1;
+            }
+            return lo;
+        }
+
+        private static long[] insert(long[] a, int pos, long v) {
+            long[] b = new long[a.length + 1];
+            System.arraycopy(a, 0, b, 0, pos);
+            b[pos] = v;
+            System.arraycopy(a, pos, b, pos + 1, a.length - pos);
+            return b;
+        }
+
+        private static long[] remove(long[] a, int pos) {
+            long[] b = new long[a.length - 1];
+            System.arraycopy(a, 0, b, 0, pos);
+            System.arraycopy(a, pos + 1, b, pos, a.length - pos - 1);
+            return b;
+        }
+    }
+}
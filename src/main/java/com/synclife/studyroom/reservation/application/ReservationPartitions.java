@@ -0,0 +1,141 @@
+package com.synclife.studyroom.reservation.application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * reservations 월별 파티션 관리 (schema.sql).
+ * - 기동 시와 매일 한 번: 이번 달부터 months-ahead개월 뒤까지 파티션을 미리 만든다
+ * - retention-months가 지난 파티션은 떼어 내(DETACH) reservations_archive 스키마로 옮기거나(archive=detach) 지운다(drop)
+ * 떼어 낸 달의 예약은 조회/인덱스 워밍에서 빠진다. 이미 메모리 인덱스에 있는 행은 재기동 전까지 남는다.
+ */
+@Component
+public class ReservationPartitions {
+    private static final Logger log = LoggerFactory.getLogger(ReservationPartitions.class);
+
+    static final String ARCHIVE_SCHEMA = "reservations_archive";
+    private static final String PREFIX = "reservations_p";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("uuuu_MM");
+
+    private static final String LIST = """
+        SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'reservations'::regclass AND c.relname ~ '^reservations_p[0-9]{4}_[0-9]{2}$'
+        """;
+    // 기본 파티션에 이미 들어온 그 달 행을 새 파티션으로 옮긴다
+    private static final String MOVE = """
+        WITH moved AS (
+            DELETE FROM reservations_default WHERE start_at >= ? AND start_at < ?
+            RETURNING id, room_id, user_id, start_at, end_at, created_at
+        )
+        INSERT INTO %s (id, room_id, user_id, start_at, end_at, created_at) SELECT * FROM moved
+        """;
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final boolean dropExpired;
+
+    public ReservationPartitions(JdbcTemplate jdbc, PlatformTransactionManager txManager,
+                                 @Value("${studyroom.reservation.partitions.enabled:true}") boolean enabled,
+                                 @Value("${studyroom.reservation.partitions.months-ahead:3}") int monthsAhead,
+                                 @Value("${studyroom.reservation.partitions.retention-months:0}") int retentionMonths,
+                                 @Value("${studyroom.reservation.partitions.archive:detach}") String archive) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(txManager);
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.dropExpired = switch (archive) {
+            case "detach" -> false;
+            case "drop" -> true;
+            default -> throw new IllegalStateException("unknown partition archive mode: " + archive);
+        };
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${studyroom.reservation.partitions.cron:0 10 0 * * *}", zone = "UTC")
+    public void maintain() {
+        if (!enabled) return;
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        try {
+            for (int i = 0; i <= monthsAhead; i++) ensure(current.plusMonths(i));
+            if (retentionMonths > 0) {
+                YearMonth oldest = current.minusMonths(retentionMonths);
+                for (YearMonth month : months()) {
+                    if (month.isBefore(oldest)) archive(month);
+                }
+            }
+        } catch (DataAccessException e) {
+            // 다른 인스턴스가 같은 파티션을 동시에 만든 경우 등. 파티션이 없어도 기본 파티션으로 들어가므로 다음 주기에 다시 시도한다
+            log.warn("reservation partition maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    /** 현재 붙어 있는 월 파티션 (기본 파티션 제외), 오름차순 */
+    public TreeSet<YearMonth> months() {
+        List<String> names = jdbc.queryForList(LIST, String.class);
+        TreeSet<YearMonth> months = new TreeSet<>();
+        for (String name : names) months.add(YearMonth.parse(name.substring(PREFIX.length()), SUFFIX));
+        return months;
+    }
+
+    /**
+     * month 파티션이 없으면 만든다. 부모를 오래 잠그지 않도록 독립 테이블로 만들고 EXCLUDE를 건 뒤
+     * 기본 파티션의 그 달 행을 옮기고 ATTACH 한다 (기본 파티션은 그동안 잠겨 새 행이 들어오지 않는다).
+     * @return 새로 만들었으면 true
+     */
+    public boolean ensure(YearMonth month) {
+        if (months().contains(month)) return false;
+        String name = partitionName(month);
+        OffsetDateTime from = month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+        OffsetDateTime to = from.plusMonths(1);
+        Integer moved = tx.execute(s -> {
+            jdbc.execute("CREATE TABLE " + name + " (LIKE reservations INCLUDING DEFAULTS INCLUDING GENERATED INCLUDING CONSTRAINTS)");
+            jdbc.execute("ALTER TABLE " + name + " ADD CONSTRAINT " + name + "_no_overlap EXCLUDE USING gist (room_id WITH =, period WITH &&)");
+            jdbc.execute("LOCK TABLE reservations_default IN ACCESS EXCLUSIVE MODE");
+            int n = jdbc.update(MOVE.formatted(name), from, to);
+            jdbc.execute("ALTER TABLE reservations ATTACH PARTITION " + name
+                    + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+            return n;
+        });
+        log.info("reservation partition created: {} (moved {} rows from default)", name, moved);
+        return true;
+    }
+
+    /** month 파티션을 떼어 내 보관 스키마로 옮기거나(detach) 지운다(drop) */
+    public void archive(YearMonth month) {
+        String name = partitionName(month);
+        tx.executeWithoutResult(s -> {
+            jdbc.execute("ALTER TABLE reservations DETACH PARTITION " + name);
+            if (dropExpired) {
+                jdbc.execute("DROP TABLE " + name);
+            } else {
+                jdbc.execute("CREATE SCHEMA IF NOT EXISTS " + ARCHIVE_SCHEMA);
+                jdbc.execute("ALTER TABLE " + name + " SET SCHEMA " + ARCHIVE_SCHEMA);
+            }
+        });
+        log.info("reservation partition {}: {}", dropExpired ? "dropped" : "archived to " + ARCHIVE_SCHEMA, name);
+    }
+
+    static String partitionName(YearMonth month) {
+        return PREFIX + month.format(SUFFIX);
+    }
+}
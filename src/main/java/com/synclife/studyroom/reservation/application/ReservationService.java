@@ -1,117 +1,362 @@
 package com.synclife.studyroom.reservation.application;
 
 import com.synclife.studyroom.auth.AuthContext;
+import com.synclife.studyroom.common.ErrorResponse;
+import com.synclife.studyroom.common.ReadConsistency;
+import com.synclife.studyroom.common.ResourceNotFoundException;
+import com.synclife.studyroom.common.StudyroomMetrics;
 import com.synclife.studyroom.reservation.domain.Reservation;
+import com.synclife.studyroom.reservation.domain.ReservationBatchWriter;
+import com.synclife.studyroom.reservation.domain.ReservationConstraints;
 import com.synclife.studyroom.reservation.domain.ReservationRepository;
 import com.synclife.studyroom.room.domain.Room;
 import com.synclife.studyroom.room.domain.RoomRepository;
+import com.synclife.studyroom.reservation.dto.CreateReservationBatchRequest;
 import com.synclife.studyroom.reservation.dto.CreateReservationRequest;
+import com.synclife.studyroom.reservation.dto.ReservationBatchResponse;
 import com.synclife.studyroom.reservation.dto.ReservationResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.synclife.studyroom.room.dto.AvailabilityFilter;
+import com.synclife.studyroom.room.dto.DailyRoomAvailabilityResponse;
 import com.synclife.studyroom.room.dto.RoomAvailabilityResponse;
+import com.synclife.studyroom.room.dto.RoomResponse;
+import com.synclife.studyroom.room.dto.RoomSlotMatch;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.*;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 import java.time.Instant;
-import java.util.NoSuchElementException;
 
 @Service
 public class ReservationService {
+    static final int MAX_SEARCH_RESULTS = 100;
+
     private final ReservationRepository reservations;
     private final RoomRepository rooms;
+    private final ReservationIndex index;
+    private final OccupancyBitmaps bitmaps;
+    private final AvailabilityVersions versions;
+    private final OverlapGuard overlapGuard;
+    private final ReservationWriteQueue writeQueue;
+    private final TransactionTemplate tx;
+    private final DatabaseAvailabilityReader databaseReader;
+    private final AvailabilityEngine engine;
+    private final ReservationBatchWriter batchWriter;
+    private final ApplicationEventPublisher events;
+    private final StudyroomMetrics metrics;
+    private final DistributionSummary reservationsPerRoom;
+    private final DistributionSummary searchDays;
+    private final int maxRangeDays;
+    private final int maxBatchSize;
 
-    public ReservationService(ReservationRepository reservations, RoomRepository rooms) {
+    public ReservationService(ReservationRepository reservations, RoomRepository rooms,
+                              ReservationIndex index, OccupancyBitmaps bitmaps,
+                              AvailabilityVersions versions, OverlapGuard overlapGuard,
+                              ReservationWriteQueue writeQueue, PlatformTransactionManager txManager,
+                              DatabaseAvailabilityReader databaseReader,
+                              List<AvailabilityEngine> engines,
+                              ReservationBatchWriter batchWriter,
+                              ApplicationEventPublisher events,
+                              StudyroomMetrics metrics,
+                              @Value("${studyroom.availability.engine:sweep}") String engineName,
+                              @Value("${studyroom.availability.max-range-days:31}") int maxRangeDays,
+                              @Value("${studyroom.reservation.max-batch-size:200}") int maxBatchSize) {
         this.reservations = reservations; this.rooms = rooms;
+        this.index = index; this.bitmaps = bitmaps; this.versions = versions; this.overlapGuard = overlapGuard;
+        this.writeQueue = writeQueue; this.tx = new TransactionTemplate(txManager);
+        this.databaseReader = databaseReader;
+        this.batchWriter = batchWriter; this.events = events;
+        this.metrics = metrics;
+        this.reservationsPerRoom = metrics.summary("studyroom.availability.reservations.per.room", "reservations");
+        this.searchDays = metrics.summary("studyroom.availability.search.days", "days");
+        this.engine = engines.stream().filter(e -> e.name().equals(engineName)).findFirst()
+                .orElseThrow(() -> new IllegalStateException("unknown availability engine: " + engineName));
+        this.maxRangeDays = maxRangeDays;
+        this.maxBatchSize = maxBatchSize;
     }
 
-    @Transactional
+    /**
+     * 예약 생성. write-mode=queued면 방별 쓰기 큐를 거쳐 group commit 되고,
+     * 아니면 요청 스레드에서 바로 INSERT 한다. 큐 대기 중에는 트랜잭션(커넥션)을 잡지 않는다.
+     */
     public ReservationResponse create(CreateReservationRequest req, AuthContext ctx) {
+        return metrics.timed("studyroom.reservation.create", "created", () -> {
+            if (ctx == null) throw new SecurityException("UNAUTHORIZED");
+            if (ctx.userId() == null) throw new SecurityException("FORBIDDEN_RESERVATION_REQUIRES_USER");
+            validateRange(req.startAt(), req.endAt());
+
+            if (writeQueue.isEnabled()) {
+                return writeQueue.create(req.roomId(), ctx.userId(), req.startAt(), req.endAt());
+            }
+            return tx.execute(s -> insert(req, ctx));
+        }, "mode", writeQueue.isEnabled() ? "queued" : "direct");
+    }
+
+    private ReservationResponse insert(CreateReservationRequest req, AuthContext ctx) {
+        // 이 인스턴스에서 이미 커밋됐거나 진행 중인 예약과 겹치면 DB에 가지 않고 409
+        overlapGuard.acquire(req.roomId(), req.startAt(), req.endAt());
+
+        // 방 행을 읽지 않고 FK용 프록시만 붙인다. 없는 방이면 INSERT가 FK 위반(23503) → 404
+        Room room = rooms.getReferenceById(req.roomId());
+
+        try {
+            // 시퀀스 ID는 INSERT를 커밋 시점까지 미루므로, 제약 위반을 여기서 받으려면 즉시 flush
+            var saved = reservations.saveAndFlush(new Reservation(room, ctx.userId(), req.startAt(), req.endAt()));
+            events.publishEvent(ReservationChangedEvent.created(
+                    saved.getId(), req.roomId(), ctx.userId(), saved.getStartAt(), saved.getEndAt()));
+            return new ReservationResponse(saved.getId(), req.roomId(), ctx.userId(), saved.getStartAt(), saved.getEndAt());
+        } catch (DataIntegrityViolationException e) {
+            // SQLSTATE + 제약명으로 409 OVERLAP / 404 / 400 변환
+            throw ReservationConstraints.translate(e);
+        }
+    }
+
+    /**
+     * 다건 예약 생성. 유효성/방 존재 확인 후 통과한 항목을 한 문장으로 INSERT 한다.
+     * - atomic=false : 항목별 결과(201 / 400 / 404 / 409 OVERLAP)
+     * - atomic=true  : 하나라도 실패하면 예외로 전체 롤백
+     * 항목 카운터(studyroom.reservation.batch.items)는 항목마다 outcome을 하나씩 남긴다.
+     * atomic 요청이 예외로 끝나면 어느 항목도 저장되지 않았으므로 전 항목을 rolled_back으로 센다 (원인은 배치 타이머의 outcome).
+     * atomic=false 요청이 항목 처리 전에 거부되면(인증, 최대 건수) 항목 카운터는 남지 않는다.
+     */
+    @Transactional
+    public ReservationBatchResponse createBatch(CreateReservationBatchRequest req, AuthContext ctx) {
+        ReservationBatchResponse response;
+        try {
+            response = metrics.timed("studyroom.reservation.create.batch", "ok", () -> doCreateBatch(req, ctx));
+        } catch (RuntimeException e) {
+            if (req.atomic()) {
+                metrics.count("studyroom.reservation.batch.items", req.items().size(), "outcome", "rolled_back");
+            }
+            throw e;
+        }
+        for (var item : response.results()) {
+            metrics.count("studyroom.reservation.batch.items", "outcome", switch (item.status()) {
+                case 201 -> "created";
+                case 400 -> "invalid";
+                case 404 -> "not_found";
+                case 409 -> "overlap";
+                default -> "error";
+            });
+        }
+        return response;
+    }
+
+    private ReservationBatchResponse doCreateBatch(CreateReservationBatchRequest req, AuthContext ctx) {
         if (ctx == null) throw new SecurityException("UNAUTHORIZED");
         if (ctx.userId() == null) throw new SecurityException("FORBIDDEN_RESERVATION_REQUIRES_USER");
 
-        validateRange(req.startAt(), req.endAt());
+        List<CreateReservationRequest> items = req.items();
+        if (items.size() > maxBatchSize)
+            throw new IllegalArgumentException("items must be at most " + maxBatchSize);
 
-        Room room = rooms.findById(req.roomId())
-                .orElseThrow(() -> new NoSuchElementException("room not found"));
+        ReservationBatchResponse.Item[] results = new ReservationBatchResponse.Item[items.size()];
+        Set<Long> roomIds = new HashSet<>();
+        for (CreateReservationRequest item : items) roomIds.add(item.roomId());
+        Set<Long> existing = batchWriter.existingRoomIds(roomIds);
 
+        // 1) 항목별 사전 검증. DB로 보낼 행은 마이크로초로 잘라 결과 매칭 키로 쓴다.
+        List<Integer> pending = new ArrayList<>();
+        List<ReservationBatchWriter.Row> rows = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            CreateReservationRequest item = items.get(i);
+            String invalid = invalidRange(item.startAt(), item.endAt());
+            if (invalid != null) {
+                if (req.atomic()) throw new IllegalArgumentException(invalid);
+                results[i] = ReservationBatchResponse.Item.failed(i, 400, new ErrorResponse("BAD_REQUEST", invalid));
+            } else if (!existing.contains(item.roomId())) {
+                if (req.atomic()) throw new ResourceNotFoundException("room not found");
+                results[i] = ReservationBatchResponse.Item.failed(i, 404, new ErrorResponse("NOT_FOUND", "room not found"));
+            } else {
+                pending.add(i);
+                rows.add(new ReservationBatchWriter.Row(item.roomId(),
+                        item.startAt().truncatedTo(ChronoUnit.MICROS), item.endAt().truncatedTo(ChronoUnit.MICROS)));
+            }
+        }
+
+        // 2) 한 문장 INSERT. atomic이면 충돌 시 23P01 → 409, 아니면 충돌 행만 건너뜀
+        List<ReservationBatchWriter.Inserted> inserted;
         try {
-            var saved = reservations.save(new Reservation(room, ctx.userId(), req.startAt(), req.endAt()));
-            return new ReservationResponse(saved.getId(), room.getId(), ctx.userId(), saved.getStartAt(), saved.getEndAt());
+            inserted = rows.isEmpty() ? List.of() : batchWriter.insert(ctx.userId(), rows, !req.atomic());
         } catch (DataIntegrityViolationException e) {
-            if (isExclusionViolation(e)) throw new IllegalStateException("CONFLICT_OVERLAP");
-            throw e;
+            throw ReservationConstraints.translate(e);
         }
+
+        // 3) 삽입된 행을 (room, start, end)로 요청 순번에 매칭. 같은 키는 앞선 항목이 이긴다.
+        Map<ReservationBatchWriter.Row, Deque<ReservationBatchWriter.Inserted>> byKey = new HashMap<>();
+        for (var r : inserted) {
+            byKey.computeIfAbsent(new ReservationBatchWriter.Row(r.roomId(), r.startAt(), r.endAt()), k -> new ArrayDeque<>()).add(r);
+        }
+        for (int k = 0; k < pending.size(); k++) {
+            int i = pending.get(k);
+            var hit = byKey.getOrDefault(rows.get(k), new ArrayDeque<>()).poll();
+            if (hit == null) {
+                results[i] = ReservationBatchResponse.Item.failed(i, 409, new ErrorResponse("OVERLAP", "요청 시간대가 기존 예약과 겹칩니다."));
+                continue;
+            }
+            events.publishEvent(ReservationChangedEvent.created(
+                    hit.id(), hit.roomId(), ctx.userId(), hit.startAt(), hit.endAt()));
+            results[i] = ReservationBatchResponse.Item.created(i,
+                    new ReservationResponse(hit.id(), hit.roomId(), ctx.userId(), hit.startAt(), hit.endAt()));
+        }
+        return new ReservationBatchResponse(Arrays.asList(results));
     }
 
     @Transactional
     public void cancel(Long reservationId, AuthContext ctx) {
+        metrics.timed("studyroom.reservation.cancel", "cancelled", () -> doCancel(reservationId, ctx));
+    }
+
+    private void doCancel(Long reservationId, AuthContext ctx) {
         if (ctx == null) throw new SecurityException("UNAUTHORIZED");
-        var resv = reservations.findById(reservationId).orElseThrow(() -> new NoSuchElementException("reservation not found"));
+        var resv = reservations.findById(reservationId).orElseThrow(() -> new ResourceNotFoundException("reservation not found"));
         if (!(ctx.isAdmin() || ctx.isOwner(resv.getUserId()))) throw new SecurityException("FORBIDDEN");
         reservations.delete(resv);
+        events.publishEvent(ReservationChangedEvent.cancelled(
+                resv.getId(), resv.getRoom().getId(), resv.getUserId(), resv.getStartAt(), resv.getEndAt()));
     }
 
-    @Transactional(readOnly = true)
     public List<RoomAvailabilityResponse> availability(LocalDate dateUtc) {
-        // 1) 날짜 구간을 [00:00Z, +1일 00:00Z)로 잡기
-        Instant dayStart = dateUtc.atStartOfDay(ZoneOffset.UTC).toInstant();
-        Instant dayEnd   = dateUtc.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
-
-        // 2) 방 전체와, 해당 구간과 겹치는 예약 전체 조회
-        var allRooms = rooms.findAll();
-        var allResvs = reservations.findAllOverlapping(dayStart, dayEnd);
-
-        // 3) 방별로 예약 묶기
-        Map<Long, List<Reservation>> byRoom = allResvs.stream()
-                .collect(Collectors.groupingBy(r -> r.getRoom().getId(), LinkedHashMap::new, Collectors.toList()));
-
-        // 4) 방별 free slot 계산
-        List<RoomAvailabilityResponse> result = new ArrayList<>();
-        for (Room room : allRooms) {
-            List<Reservation> list = byRoom.getOrDefault(room.getId(), List.of());
-
-            // 빈 구간 계산: 커서를 dayStart로 두고 예약 사이의 간격을 수집
-            Instant cursor = dayStart;
-            List<RoomAvailabilityResponse.ReservationWindow> resvDtos = new ArrayList<>();
-            List<RoomAvailabilityResponse.FreeSlot> free = new ArrayList<>();
-
-            for (Reservation r : list) {
-                Instant s = r.getStartAt();
-                Instant e = r.getEndAt();
-                if (s.isAfter(cursor)) {
-                    free.add(new RoomAvailabilityResponse.FreeSlot(cursor, s));
+        return availability(dateUtc, AvailabilityFilter.NONE);
+    }
+
+    /**
+     * 날짜 구간 [00:00Z, +1일 00:00Z) (시각 창이 있으면 그 창)의 방별 예약/빈 슬롯.
+     * 필터에 맞지 않는 방은 직렬화 대상에서 빠진다.
+     */
+    public List<RoomAvailabilityResponse> availability(LocalDate dateUtc, AvailabilityFilter filter) {
+        // 인메모리 인덱스가 준비되었고 날짜가 인덱스 창 안이면 DB 왕복 없이 응답, 아니면 설정된 DB 엔진
+        boolean fromIndex = index.covers(dateUtc, dateUtc);
+        List<RoomAvailabilityResponse> result = metrics.timed("studyroom.availability", "ok",
+                () -> fromIndex ? index.availability(dateUtc, filter) : fromDatabase(dateUtc, filter),
+                "source", fromIndex ? "index" : engine.name());
+        for (RoomAvailabilityResponse r : result) reservationsPerRoom.record(r.reservations().size());
+        return result;
+    }
+
+    /**
+     * availability(date, filter)를 키오스크용 바이너리 형식(AvailabilityBinaryEncoder)으로 out에 바로 쓴다.
+     * 인덱스가 그 날짜를 담고 있으면 DTO 없이 인코딩하고, 아니면 DB 엔진 결과를 인코딩한다.
+     * dictionary면 필터와 무관하게 모든 방의 사전(이름/위치/수용 인원)을 앞에 붙인다.
+     */
+    public void writeAvailabilityBinary(LocalDate dateUtc, AvailabilityFilter filter, boolean dictionary,
+                                        OutputStream out) throws IOException {
+        boolean fromIndex = index.covers(dateUtc, dateUtc);
+        var sample = metrics.start();
+        if (fromIndex) {
+            index.writeBinary(dateUtc, filter, dictionary, out);
+        } else {
+            List<Room> all = dictionary
+                    ? ReadConsistency.atLeast(versions.changedAt(dateUtc, dateUtc), () -> rooms.findAllMatching(null, null))
+                    : null;
+            AvailabilityBinaryEncoder.encode(fromDatabase(dateUtc, filter), all,
+                    filter.windowStart(dateUtc), filter.windowEnd(dateUtc), out);
+        }
+        metrics.stop(sample, "studyroom.availability.binary", "source", fromIndex ? "index" : engine.name());
+    }
+
+    /**
+     * date(UTC)의 시각 창 [fromTime, toTime)이 통째로 비어 있는 방 (방 id 오름차순).
+     * 점유 비트맵이 준비되었으면 word 단위 비트 연산으로, 아니면 창 길이를 minFreeMinutes로 둔 DB 조회로 답한다.
+     */
+    public List<RoomResponse> freeRooms(LocalDate dateUtc, AvailabilityFilter filter) {
+        if (filter.fromTime() == null || filter.toTime() == null) throw new IllegalArgumentException("fromTime, toTime required");
+        boolean fromBitmaps = bitmaps.isReady() && index.covers(dateUtc, dateUtc);
+        return metrics.timed("studyroom.availability.free", "ok",
+                () -> fromBitmaps ? bitmaps.freeRooms(dateUtc, filter) : freeRoomsFromDatabase(dateUtc, filter),
+                "source", fromBitmaps ? "bitmap" : engine.name());
+    }
+
+    /**
+     * from부터 days일 동안 매일 시각 창(fromTime~toTime, UTC) 안에서 minFreeMinutes 이상 연속으로 빈 (방, 빈 구간)을
+     * 시작이 이른 순으로 최대 limit개 반환한다. 같은 시각이면 수용 인원이 작은 방, 방 id 순 (RoomSlotMatch.EARLIEST_BEST_FIT).
+     * 날짜 순으로 하루씩 계산하며 limit개가 차면 남은 날짜는 조회하지 않는다. 빈 구간은 하루 창 단위로 자른다.
+     */
+    public List<RoomSlotMatch> search(LocalDate from, int days, AvailabilityFilter filter, int limit) {
+        if (days < 1) throw new IllegalArgumentException("days > 0");
+        validateAvailabilityRange(from, from.plusDays(days - 1));
+        if (filter.minFreeMinutes() == null) throw new IllegalArgumentException("minutes required");
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS)
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_SEARCH_RESULTS);
+
+        boolean fromIndex = index.covers(from, from.plusDays(days - 1));
+        return metrics.timed("studyroom.availability.search", "ok", () -> {
+            List<RoomSlotMatch> found = new ArrayList<>(limit);
+            int scanned = 0;
+            // 날짜마다 창이 겹치지 않으므로 하루치를 정렬해 이어 붙이면 전체가 정렬된다
+            for (LocalDate d = from; scanned < days && found.size() < limit; d = d.plusDays(1), scanned++) {
+                List<RoomAvailabilityResponse> rooms = fromIndex ? index.availability(d, filter) : fromDatabase(d, filter);
+                List<RoomSlotMatch> day = new ArrayList<>();
+                for (RoomAvailabilityResponse r : rooms) {
+                    for (RoomAvailabilityResponse.FreeSlot slot : r.freeSlots()) day.add(RoomSlotMatch.of(r, slot));
                 }
-                cursor = e.isAfter(cursor) ? e : cursor; // 반개구간이므로 같은 시각이면 이동 없음
-                resvDtos.add(new RoomAvailabilityResponse.ReservationWindow(
-                        r.getId(), r.getUserId(), r.getStartAt(), r.getEndAt()
-                ));
-            }
-            if (cursor.isBefore(dayEnd)) {
-                free.add(new RoomAvailabilityResponse.FreeSlot(cursor, dayEnd));
+                day.sort(RoomSlotMatch.EARLIEST_BEST_FIT);
+                found.addAll(day.subList(0, Math.min(day.size(), limit - found.size())));
             }
+            searchDays.record(scanned);
+            return found;
+        }, "source", fromIndex ? "index" : engine.name());
+    }
 
-            result.add(new RoomAvailabilityResponse(
-                    room.getId(), room.getName(), room.getLocation(), room.getCapacity(),
-                    resvDtos, free
-            ));
-        }
-        // 방 id 오름차순 리턴
-        result.sort(Comparator.comparing(RoomAvailabilityResponse::roomId));
-        return result;
+    /** 방 하나의 하루치 가용성 (변경 피드에서 재계산용) */
+    public Optional<RoomAvailabilityResponse> roomAvailability(LocalDate dateUtc, Long roomId) {
+        if (index.covers(dateUtc, dateUtc)) return index.roomAvailability(dateUtc, roomId);
+        return fromDatabase(dateUtc, AvailabilityFilter.NONE).stream()
+                .filter(r -> r.roomId().equals(roomId))
+                .findFirst();
     }
 
-    private void validateRange(Instant start, Instant end) {
-        if (start == null || end == null || !start.isBefore(end))
-            throw new IllegalArgumentException("startAt < endAt");
+    public void validateAvailabilityRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from))
+            throw new IllegalArgumentException("from <= to");
+        if (from.plusDays(maxRangeDays).isBefore(to.plusDays(1)))
+            throw new IllegalArgumentException("range must be at most " + maxRangeDays + " days");
+    }
+
+    /**
+     * 기간 [from, to] (UTC 날짜, 양끝 포함)의 방/일자별 가용성을 방 id, 일자 순으로 sink에 흘려보낸다.
+     * 전체 결과를 메모리에 모으지 않는다.
+     */
+    public void streamAvailability(LocalDate from, LocalDate to, Consumer<DailyRoomAvailabilityResponse> sink) {
+        validateAvailabilityRange(from, to);
+        if (index.covers(from, to)) index.stream(from, to, sink);
+        else ReadConsistency.atLeast(versions.changedAt(from, to), () -> databaseReader.stream(from, to, sink));
     }
 
-    private boolean isExclusionViolation(DataIntegrityViolationException e) {
-        Throwable root = e.getMostSpecificCause();
+    // 레플리카에서 읽더라도 이 날짜의 마지막 변경까지는 반영된 결과여야 한다 (캐시/ETag 버전과 일치)
+    private List<RoomAvailabilityResponse> fromDatabase(LocalDate dateUtc, AvailabilityFilter filter) {
+        return ReadConsistency.atLeast(versions.changedAt(dateUtc, dateUtc), () -> engine.availability(dateUtc, filter));
+    }
+
+    // 창 전체 길이 이상의 빈 슬롯이 있는 방 = 창이 통째로 빈 방
+    private List<RoomResponse> freeRoomsFromDatabase(LocalDate dateUtc, AvailabilityFilter filter) {
+        int minutes = (int) Duration.between(filter.windowStart(dateUtc), filter.windowEnd(dateUtc)).toMinutes();
+        var whole = new AvailabilityFilter(filter.location(), filter.minCapacity(), minutes, filter.fromTime(), filter.toTime());
+        return fromDatabase(dateUtc, whole).stream()
+                .map(r -> new RoomResponse(r.roomId(), r.name(), r.location(), r.capacity()))
+                .toList();
+    }
+
+    private void validateRange(Instant start, Instant end) {
+        String invalid = invalidRange(start, end);
+        if (invalid != null) throw new IllegalArgumentException(invalid);
+    }
 
-        return root != null && root.getMessage() != null && root.getMessage().contains("exclusion constraint")
-                || (root instanceof org.postgresql.util.PSQLException p && "23P01".equals(p.getSQLState()));
+    // DB의 chk_time_range / chk_max_duration과 같은 조건 (위반 시 DB 왕복 전에 400)
+    private static String invalidRange(Instant start, Instant end) {
+        if (start == null || end == null || !start.isBefore(end)) return "startAt < endAt";
+        if (Duration.between(start, end).compareTo(ReservationConstraints.MAX_DURATION) > 0)
+            return ReservationConstraints.maxDurationMessage();
+        return null;
     }
 }
@@ -0,0 +1,257 @@
+package com.synclife.studyroom.reservation.application;
+
+import com.synclife.studyroom.common.OverlapConflictException;
+import com.synclife.studyroom.common.ResourceNotFoundException;
+import com.synclife.studyroom.common.StudyroomMetrics;
+import com.synclife.studyroom.reservation.domain.ReservationBatchWriter;
+import com.synclife.studyroom.reservation.domain.ReservationConstraints;
+import com.synclife.studyroom.reservation.dto.ReservationResponse;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 방별 단일 작성자(single-writer) 예약 큐 (studyroom.reservation.write-mode=queued).
+ * 같은 방의 create 요청은 큐에 쌓이고, 방마다 가상 스레드 하나가 순서대로 꺼내
+ * - 메모리에서 겹침을 판정(커밋된 인덱스 + 같은 묶음의 앞선 승자)하고
+ * - 승자만 한 트랜잭션·한 문장으로 INSERT(group commit) 한다.
+ * 패자는 DB에 가지 않고 409가 되므로 인기 슬롯에 몰릴 때 DB 잠금/GiST 충돌이 줄어든다.
+ * 다른 노드가 먼저 넣은 행은 ON CONFLICT DO NOTHING으로 건너뛰어 409로 돌려준다 (DB 제약이 최종 판정).
+ * 작성자는 존재하는 방에만 만들고, 큐가 비면 맵에서 내린다 (방 id 수만큼 쌓이지 않도록).
+ */
+@Component
+public class ReservationWriteQueue {
+    // 은퇴한 작성자의 size. 이후 submit의 증가분이 0을 넘지 않는다
+    private static final int RETIRED = Integer.MIN_VALUE / 2;
+
+    private final ReservationBatchWriter batchWriter;
+    private final ReservationIndex index;
+    private final TransactionTemplate tx;
+    private final ApplicationEventPublisher events;
+    private final StudyroomMetrics metrics;
+    private final boolean enabled;
+    private final int maxBatch;
+    private final int capacity;
+    private final Duration timeout;
+
+    private final Map<Long, RoomWriter> writers = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ReservationWriteQueue(ReservationBatchWriter batchWriter, ReservationIndex index,
+                                 PlatformTransactionManager txManager, ApplicationEventPublisher events,
+                                 StudyroomMetrics metrics,
+                                 @Value("${studyroom.reservation.write-mode:direct}") String writeMode,
+                                 @Value("${studyroom.reservation.queue.max-batch:100}") int maxBatch,
+                                 @Value("${studyroom.reservation.queue.capacity:10000}") int capacity,
+                                 @Value("${studyroom.reservation.queue.timeout:10s}") Duration timeout) {
+        this.batchWriter = batchWriter;
+        this.index = index;
+        this.tx = new TransactionTemplate(txManager);
+        this.events = events;
+        this.metrics = metrics;
+        this.enabled = switch (writeMode) {
+            case "direct" -> false;
+            case "queued" -> true;
+            default -> throw new IllegalStateException("unknown reservation write mode: " + writeMode);
+        };
+        this.maxBatch = maxBatch;
+        this.capacity = capacity;
+        this.timeout = timeout;
+    }
+
+    public boolean isEnabled() { return enabled; }
+
+    /**
+     * 큐를 거쳐 예약을 생성하고 결과를 기다린다. 인증/시간 검증은 호출자가 마친 상태여야 한다.
+     * - 겹침 → OverlapConflictException, 없는 방 → ResourceNotFoundException
+     * - 큐가 가득 찼거나 timeout 안에 처리 시작을 못 하면 IllegalStateException("WRITE_QUEUE_BUSY")
+     */
+    public ReservationResponse create(Long roomId, Long userId, Instant startAt, Instant endAt) {
+        Pending p = new Pending(userId, startAt.truncatedTo(ChronoUnit.MICROS), endAt.truncatedTo(ChronoUnit.MICROS));
+        RoomWriter writer;
+        while (!(writer = writer(roomId)).submit(p)) writers.remove(roomId, writer);
+        try {
+            return p.result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 꺼내지지 않았으면 취소하고 503, 이미 커밋 중이면 결과를 끝까지 기다린다
+            if (p.claimed.compareAndSet(false, true)) throw new IllegalStateException("WRITE_QUEUE_BUSY");
+            return join(p);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("WRITE_QUEUE_BUSY");
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    int writerCount() { return writers.size(); }
+
+    // 없는 방이면 작성자를 만들지 않고 404. 확인은 작성자를 새로 만들 때만 한다 (인덱스, 없으면 DB)
+    private RoomWriter writer(Long roomId) {
+        RoomWriter writer = writers.get(roomId);
+        if (writer != null) return writer;
+        boolean exists = (index.isReady() && index.slots(roomId) != null)
+                || !batchWriter.existingRoomIds(Set.of(roomId)).isEmpty();
+        if (!exists) throw new ResourceNotFoundException("room not found");
+        return writers.computeIfAbsent(roomId, RoomWriter::new);
+    }
+
+    private static ReservationResponse join(Pending p) {
+        try {
+            return p.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("WRITE_QUEUE_BUSY");
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        return e.getCause() instanceof RuntimeException r ? r : new IllegalStateException(e.getCause());
+    }
+
+    private static final class Pending {
+        final Long userId;
+        final Instant startAt, endAt;
+        final CompletableFuture<ReservationResponse> result = new CompletableFuture<>();
+        // 작성자가 꺼냈거나(true) 대기자가 시간 초과로 취소했으면(true) 더 이상 다른 쪽이 가져갈 수 없다
+        final AtomicBoolean claimed = new AtomicBoolean();
+
+        Pending(Long userId, Instant startAt, Instant endAt) {
+            this.userId = userId; this.startAt = startAt; this.endAt = endAt;
+        }
+
+        boolean overlaps(Pending o) {
+            return startAt.isBefore(o.endAt) && o.startAt.isBefore(endAt);
+        }
+    }
+
+    /**
+     * 방 하나의 큐. 한 번에 하나의 가상 스레드만 비운다.
+     * 큐가 비면 running을 잡은 채 size를 RETIRED로 바꿔 은퇴하고 맵에서 내린다. 은퇴한 작성자는 submit을 거절하므로
+     * 호출자가 새 작성자를 만든다 (같은 방에 두 작성자가 동시에 도는 일은 없다).
+     */
+    private final class RoomWriter {
+        final Long roomId;
+        final ConcurrentLinkedQueue<Pending> queue = new ConcurrentLinkedQueue<>();
+        final AtomicInteger size = new AtomicInteger();
+        final AtomicBoolean running = new AtomicBoolean();
+
+        RoomWriter(Long roomId) { this.roomId = roomId; }
+
+        /** 은퇴한 작성자면 false (p는 넣지 않는다) */
+        boolean submit(Pending p) {
+            int n = size.incrementAndGet();
+            if (n <= 0) return false;
+            if (n > capacity) {
+                size.decrementAndGet();
+                throw new IllegalStateException("WRITE_QUEUE_BUSY");
+            }
+            queue.add(p);
+            schedule();
+            return true;
+        }
+
+        void schedule() {
+            if (running.compareAndSet(false, true)) executor.execute(this::drain);
+        }
+
+        void drain() {
+            try {
+                List<Pending> batch;
+                while (!(batch = poll()).isEmpty()) commit(batch);
+            } finally {
+                running.set(false);
+            }
+            // 비우는 사이에 들어온 요청이 있으면 다시 시작, 없으면 은퇴
+            if (!queue.isEmpty()) schedule();
+            else retireIfIdle();
+        }
+
+        private void retireIfIdle() {
+            if (!running.compareAndSet(false, true)) return;   // 새 요청으로 다른 drain이 시작됐다
+            if (size.compareAndSet(0, RETIRED)) {
+                writers.remove(roomId, this);
+                return;                                        // running은 true로 남겨 다시 돌지 않는다
+            }
+            // size를 올린 요청이 있다: 그 요청의 schedule()이 위 CAS에 막혔을 수 있으므로 직접 다시 확인
+            running.set(false);
+            if (!queue.isEmpty()) schedule();
+        }
+
+        private List<Pending> poll() {
+            List<Pending> batch = new ArrayList<>();
+            Pending p;
+            while (batch.size() < maxBatch && (p = queue.poll()) != null) {
+                size.decrementAndGet();
+                if (p.claimed.compareAndSet(false, true)) batch.add(p);
+            }
+            return batch;
+        }
+
+        private void commit(List<Pending> batch) {
+            // 1) 도착 순으로 승자 결정: 커밋된 예약이나 앞선 승자와 겹치면 DB에 가지 않고 409
+            List<Pending> winners = new ArrayList<>(batch.size());
+            for (Pending p : batch) {
+                boolean lost = index.isReady() && index.overlaps(roomId, p.startAt, p.endAt);
+                for (int i = 0; !lost && i < winners.size(); i++) lost = winners.get(i).overlaps(p);
+                if (lost) overlap(p, "in_memory");
+                else winners.add(p);
+            }
+            if (winners.isEmpty()) return;
+            metrics.summary("studyroom.reservation.queue.batch", "reservations").record(winners.size());
+
+            // 2) 승자를 한 트랜잭션·한 문장으로 INSERT. 다른 노드와의 충돌 행은 건너뛴다
+            Map<Instant, ReservationBatchWriter.Inserted> inserted = new HashMap<>();
+            try {
+                tx.executeWithoutResult(s -> {
+                    List<ReservationBatchWriter.UserRow> rows = new ArrayList<>(winners.size());
+                    for (Pending p : winners) rows.add(new ReservationBatchWriter.UserRow(roomId, p.userId, p.startAt, p.endAt));
+                    for (var r : batchWriter.insertAll(rows, true)) inserted.put(r.startAt(), r);
+                    for (Pending p : winners) {
+                        var r = inserted.get(p.startAt);
+                        if (r != null) events.publishEvent(ReservationChangedEvent.created(
+                                r.id(), roomId, p.userId, r.startAt(), r.endAt()));
+                    }
+                });
+            } catch (DataIntegrityViolationException e) {
+                RuntimeException failure = ReservationConstraints.translate(e);
+                winners.forEach(p -> p.result.completeExceptionally(failure));
+                return;
+            } catch (RuntimeException e) {
+                winners.forEach(p -> p.result.completeExceptionally(e));
+                return;
+            }
+
+            // 3) 커밋 후 응답
+            for (Pending p : winners) {
+                var r = inserted.get(p.startAt);
+                if (r == null) overlap(p, "database");
+                else p.result.complete(new ReservationResponse(r.id(), roomId, p.userId, r.startAt(), r.endAt()));
+            }
+        }
+
+        private void overlap(Pending p, String where) {
+            metrics.count("studyroom.reservation.queue.rejected", "where", where);
+            p.result.completeExceptionally(new OverlapConflictException());
+        }
+    }
+}
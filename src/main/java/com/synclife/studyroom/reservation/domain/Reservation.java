@@ -14,7 +14,11 @@ import java.time.Instant;
 @NoArgsConstructor
 public class Reservation {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // pooled 시퀀스 (schema.sql의 INCREMENT BY 50과 일치) → INSERT 배치 가능
+    // DB PK는 파티션 키를 포함한 (id, start_at)이지만 id만으로 유일하므로 엔티티 식별자는 id
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservations_id_seq")
+    @SequenceGenerator(name = "reservations_id_seq", sequenceName = "reservations_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
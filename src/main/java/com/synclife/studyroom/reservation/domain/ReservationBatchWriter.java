@@ -0,0 +1,109 @@
+package com.synclife.studyroom.reservation.domain;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 예약 다건 INSERT. 항목별 충돌 건너뛰기(ON CONFLICT DO NOTHING)는 JPA로 표현할 수 없어 JDBC로 직접 처리한다.
+ * 항목들을 배열 파라미터로 묶어 한 문장(한 번의 왕복)으로 넣는다.
+ * skipConflicts=true 이면 EXCLUDE 충돌 행은 건너뛰고(ON CONFLICT DO NOTHING) 들어간 행만 돌려준다.
+ * 파티션 경계를 넘는 겹침은 EXCLUDE가 아니라 트리거가 잡으므로, 같은 문장 안에서 트랜잭션 로컬 설정
+ * studyroom.on_overlap=skip을 켜서 트리거도 그 행만 건너뛰게 한다 (schema.sql).
+ */
+@Repository
+public class ReservationBatchWriter {
+
+    // 첫 %s: 건너뛰기 모드의 WITH 절, 둘째 %s: 그 CTE와의 조인. 조인 때문에 설정이 첫 행 INSERT(트리거)보다 먼저 평가된다
+    private static final String INSERT = """
+        %sINSERT INTO reservations (room_id, user_id, start_at, end_at)
+        SELECT t.room_id, ?, t.start_at, t.end_at
+        FROM unnest(?::bigint[], ?::text[]::timestamptz[], ?::text[]::timestamptz[])
+             WITH ORDINALITY AS t(room_id, start_at, end_at, ord)%s
+        ORDER BY t.ord
+        """;
+    private static final String INSERT_PER_USER = """
+        %sINSERT INTO reservations (room_id, user_id, start_at, end_at)
+        SELECT t.room_id, t.user_id, t.start_at, t.end_at
+        FROM unnest(?::bigint[], ?::bigint[], ?::text[]::timestamptz[], ?::text[]::timestamptz[])
+             WITH ORDINALITY AS t(room_id, user_id, start_at, end_at, ord)%s
+        ORDER BY t.ord
+        """;
+    private static final String SKIP_WITH = "WITH skip AS MATERIALIZED (SELECT set_config('studyroom.on_overlap', 'skip', true))\n";
+    private static final String SKIP_JOIN = ", skip";
+    private static final String RETURNING = " RETURNING id, room_id, start_at, end_at";
+    private static final String INSERT_SQL = sql(INSERT, false), INSERT_SKIP_SQL = sql(INSERT, true);
+    private static final String INSERT_PER_USER_SQL = sql(INSERT_PER_USER, false), INSERT_PER_USER_SKIP_SQL = sql(INSERT_PER_USER, true);
+
+    private final JdbcTemplate jdbc;
+
+    public ReservationBatchWriter(JdbcTemplate jdbc) { this.jdbc = jdbc; }
+
+    public record Row(Long roomId, Instant startAt, Instant endAt) {}
+
+    public record UserRow(Long roomId, Long userId, Instant startAt, Instant endAt) {}
+
+    public record Inserted(Long id, Long roomId, Instant startAt, Instant endAt) {}
+
+    /** 행 순서대로 삽입. 요청 시각은 PostgreSQL 정밀도(마이크로초)로 잘라서 넣어야 결과와 매칭된다. */
+    public List<Inserted> insert(Long userId, List<Row> rows, boolean skipConflicts) {
+        String sql = skipConflicts ? INSERT_SKIP_SQL : INSERT_SQL;
+        return jdbc.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setLong(1, userId);
+            ps.setArray(2, array(con, "bigint", rows.stream().map(Row::roomId).toArray(Long[]::new)));
+            ps.setArray(3, array(con, "text", rows.stream().map(r -> r.startAt().toString()).toArray(String[]::new)));
+            ps.setArray(4, array(con, "text", rows.stream().map(r -> r.endAt().toString()).toArray(String[]::new)));
+            return ps;
+        }, (rs, i) -> inserted(rs));
+    }
+
+    /** 사용자가 섞인 행들을 순서대로 삽입 (예약 쓰기 큐의 group commit용) */
+    public List<Inserted> insertAll(List<UserRow> rows, boolean skipConflicts) {
+        String sql = skipConflicts ? INSERT_PER_USER_SKIP_SQL : INSERT_PER_USER_SQL;
+        return jdbc.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setArray(1, array(con, "bigint", rows.stream().map(UserRow::roomId).toArray(Long[]::new)));
+            ps.setArray(2, array(con, "bigint", rows.stream().map(UserRow::userId).toArray(Long[]::new)));
+            ps.setArray(3, array(con, "text", rows.stream().map(r -> r.startAt().toString()).toArray(String[]::new)));
+            ps.setArray(4, array(con, "text", rows.stream().map(r -> r.endAt().toString()).toArray(String[]::new)));
+            return ps;
+        }, (rs, i) -> inserted(rs));
+    }
+
+    public Set<Long> existingRoomIds(Set<Long> roomIds) {
+        return new HashSet<>(jdbc.query(con -> {
+            PreparedStatement ps = con.prepareStatement("SELECT id FROM rooms WHERE id = ANY(?)");
+            ps.setArray(1, array(con, "bigint", roomIds.toArray(Long[]::new)));
+            return ps;
+        }, (rs, i) -> rs.getLong(1)));
+    }
+
+    private static String sql(String insert, boolean skipConflicts) {
+        return skipConflicts
+                ? insert.formatted(SKIP_WITH, SKIP_JOIN) + " ON CONFLICT DO NOTHING" + RETURNING
+                : insert.formatted("", "") + RETURNING;
+    }
+
+    private static Inserted inserted(ResultSet rs) throws SQLException {
+        return new Inserted(
+                rs.getLong("id"), rs.getLong("room_id"),
+                rs.getObject("start_at", OffsetDateTime.class).toInstant(),
+                rs.getObject("end_at", OffsetDateTime.class).toInstant()
+        );
+    }
+
+    private static Array array(Connection con, String type, Object[] values) throws SQLException {
+        return con.createArrayOf(type, values);
+    }
+}
@@ -0,0 +1,48 @@
+package com.synclife.studyroom.reservation.domain;
+
+import com.synclife.studyroom.common.ConstraintViolations;
+import com.synclife.studyroom.common.OverlapConflictException;
+import com.synclife.studyroom.common.ResourceNotFoundException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+
+/**
+ * reservations 테이블 제약(schema.sql)과 서비스 예외의 대응 (ADR-001).
+ */
+public final class ReservationConstraints {
+
+    /** 파티션 경계 검사 트리거가 던지는 제약명. 파티션별 EXCLUDE는 <파티션>_no_overlap */
+    public static final String NO_OVERLAP = "reservations_no_overlap";
+    public static final String ROOM_FK = "reservations_room_id_fkey";
+    public static final String TIME_RANGE = "chk_time_range";
+    public static final String MAX_DURATION_CHECK = "chk_max_duration";
+
+    /** 예약 최대 길이 (chk_max_duration, 파티션 경계 트리거와 같은 값) */
+    public static final Duration MAX_DURATION = Duration.ofDays(7);
+
+    private static final String PARTITION_PREFIX = "reservations_";
+    private static final String NO_OVERLAP_SUFFIX = "_no_overlap";
+
+    private ReservationConstraints() {}
+
+    /** 알려진 제약 위반이면 대응하는 비즈니스 예외, 아니면 원래 예외 */
+    public static RuntimeException translate(DataIntegrityViolationException e) {
+        ConstraintViolations.Violation v = ConstraintViolations.classify(e);
+        if (v.kind() == ConstraintViolations.Kind.EXCLUSION && isNoOverlap(v.constraint())) return new OverlapConflictException();
+        if (v.is(ConstraintViolations.Kind.FOREIGN_KEY, ROOM_FK)) return new ResourceNotFoundException("room not found");
+        if (v.is(ConstraintViolations.Kind.CHECK, TIME_RANGE)) return new IllegalArgumentException("startAt < endAt");
+        if (v.is(ConstraintViolations.Kind.CHECK, MAX_DURATION_CHECK)) return new IllegalArgumentException(maxDurationMessage());
+        return e;
+    }
+
+    public static String maxDurationMessage() {
+        return "reservation must be at most " + MAX_DURATION.toDays() + " days";
+    }
+
+    // reservations_no_overlap(트리거) 또는 reservations_p2026_03_no_overlap / reservations_default_no_overlap(파티션)
+    static boolean isNoOverlap(String constraint) {
+        return constraint == null
+                || constraint.startsWith(PARTITION_PREFIX) && constraint.endsWith(NO_OVERLAP_SUFFIX);
+    }
+}
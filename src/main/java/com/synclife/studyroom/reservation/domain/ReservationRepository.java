@@ -1,18 +1,47 @@
 package com.synclife.studyroom.reservation.domain;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
 
    // 특정 구간과 겹치는 모든 예약 (모든 방 대상), 방-시작시간 정렬
+   // 엔티티 대신 (room_id, id, user_id, start_at, end_at)만 프로젝션 → 영속성 컨텍스트/더티체킹 없음
+   // 인메모리 인덱스 워밍/창 이동도 이 쿼리로 창 구간만 읽는다
+    default List<ReservationSlot> findAllOverlapping(Instant start, Instant end) {
+        return findAllOverlapping(start.minus(ReservationConstraints.MAX_DURATION), start, end);
+    }
+
+    // 기간 조회용: 같은 조건/정렬을 커서(fetch size)로 흘려 읽는다. 트랜잭션 안에서 소비 후 close 필요
+    default Stream<ReservationSlot> streamAllOverlapping(Instant start, Instant end) {
+        return streamAllOverlapping(start.minus(ReservationConstraints.MAX_DURATION), start, end);
+    }
+
+    // 예약은 최대 MAX_DURATION이므로 겹치는 예약은 start_at > start - MAX_DURATION → 월 파티션 1~2개만 읽는다
+    @Query("""
+        select new com.synclife.studyroom.reservation.domain.ReservationSlot(
+            r.room.id, r.id, r.userId, r.startAt, r.endAt)
+        from Reservation r
+        where r.startAt > :earliestStart and r.startAt < :end and r.endAt > :start
+        order by r.room.id asc, r.startAt asc
+    """)
+    List<ReservationSlot> findAllOverlapping(@Param("earliestStart") Instant earliestStart,
+                                             @Param("start") Instant start, @Param("end") Instant end);
+
     @Query("""
-        select r from Reservation r
-        where r.startAt < :end and r.endAt > :start
+        select new com.synclife.studyroom.reservation.domain.ReservationSlot(
+            r.room.id, r.id, r.userId, r.startAt, r.endAt)
+        from Reservation r
+        where r.startAt > :earliestStart and r.startAt < :end and r.endAt > :start
         order by r.room.id asc, r.startAt asc
     """)
-    List<Reservation> findAllOverlapping(@Param("start") Instant start, @Param("end") Instant end);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<ReservationSlot> streamAllOverlapping(@Param("earliestStart") Instant earliestStart,
+                                                 @Param("start") Instant start, @Param("end") Instant end);
 }
@@ -0,0 +1,8 @@
+package com.synclife.studyroom.reservation.domain;
+
+import java.time.Instant;
+
+/**
+ * 가용성 계산용 읽기 전용 프로젝션. 엔티티/프록시를 만들지 않고 필요한 컬럼만 읽는다.
+ */
+public record ReservationSlot(Long roomId, Long id, Long userId, Instant startAt, Instant endAt) {}
@@ -0,0 +1,15 @@
+package com.synclife.studyroom.reservation.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * 여러 예약을 한 번에 생성.
+ * atomic=false(기본): 항목별로 성공/실패를 돌려준다.
+ * atomic=true       : 하나라도 실패하면 전체 롤백.
+ */
+public record CreateReservationBatchRequest(
+        @NotEmpty List<@Valid CreateReservationRequest> items,
+        boolean atomic
+) {}
@@ -0,0 +1,13 @@
+package com.synclife.studyroom.reservation.dto;
+
+import com.synclife.studyroom.common.ErrorResponse;
+import java.util.List;
+
+public record ReservationBatchResponse(List<Item> results) {
+
+    /** index = 요청 items의 순번, status = 항목별 HTTP 상태(201/400/404/409) */
+    public record Item(int index, int status, ReservationResponse reservation, ErrorResponse error) {
+        public static Item created(int index, ReservationResponse r) { return new Item(index, 201, r, null); }
+        public static Item failed(int index, int status, ErrorResponse error) { return new Item(index, status, null, error); }
+    }
+}
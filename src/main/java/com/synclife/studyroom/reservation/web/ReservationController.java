@@ -3,7 +3,9 @@ package com.synclife.studyroom.reservation.web;
 import com.synclife.studyroom.auth.AuthContext;
 import com.synclife.studyroom.auth.AuthFilter;
 import com.synclife.studyroom.reservation.application.ReservationService;
+import com.synclife.studyroom.reservation.dto.CreateReservationBatchRequest;
 import com.synclife.studyroom.reservation.dto.CreateReservationRequest;
+import com.synclife.studyroom.reservation.dto.ReservationBatchResponse;
 import com.synclife.studyroom.reservation.dto.ReservationResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,6 +31,15 @@ public class ReservationController implements ReservationsApi {
         return reservationService.create(req, ctx);
     }
 
+    @PostMapping("/reservations/batch")
+    public ReservationBatchResponse createBatch(
+            @Valid @RequestBody CreateReservationBatchRequest req,
+            HttpServletRequest http
+    ) {
+        AuthContext ctx = (AuthContext) http.getAttribute(AuthFilter.ATTR);
+        return reservationService.createBatch(req, ctx);
+    }
+
     @DeleteMapping("/reservations/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void cancel(
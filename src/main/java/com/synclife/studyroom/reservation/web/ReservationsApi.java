@@ -1,6 +1,8 @@
 package com.synclife.studyroom.reservation.web;
 
+import com.synclife.studyroom.reservation.dto.CreateReservationBatchRequest;
 import com.synclife.studyroom.reservation.dto.CreateReservationRequest;
+import com.synclife.studyroom.reservation.dto.ReservationBatchResponse;
 import com.synclife.studyroom.reservation.dto.ReservationResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,7 +20,8 @@ public interface ReservationsApi {
 
     @Operation(
             summary = "예약 생성 (USER)",
-            description = "사용자 토큰: `user-token-<id>` (예: `user-token-7`)",
+            description = "사용자 토큰: `user-token-<id>` (예: `user-token-7`). "
+                    + "시간은 UTC 반개구간 `[startAt, endAt)`, 예약 길이는 최대 7일입니다.",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses({
@@ -34,14 +37,17 @@ public interface ReservationsApi {
                             )
                     )
             ),
-            @ApiResponse(responseCode = "400", description = "잘못된 시간 범위",
+            @ApiResponse(responseCode = "400", description = "잘못된 시간 범위 (startAt >= endAt, 7일 초과)",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = com.synclife.studyroom.common.ErrorResponse.class),
-                            examples = @ExampleObject(
-                                    value = """
+                            examples = {
+                                    @ExampleObject(name = "range", value = """
                                     { "code":"BAD_REQUEST", "message":"startAt < endAt" }
-                                    """
-                            )
+                                    """),
+                                    @ExampleObject(name = "max-duration", value = """
+                                    { "code":"BAD_REQUEST", "message":"reservation must be at most 7 days" }
+                                    """)
+                            }
                     )
             ),
             @ApiResponse(responseCode = "401", description = "UNAUTHORIZED",
@@ -103,6 +109,62 @@ public interface ReservationsApi {
             HttpServletRequest http
     );
 
+    @Operation(
+            summary = "예약 일괄 생성 (USER)",
+            description = "여러 예약을 한 번의 요청/트랜잭션으로 생성합니다. "
+                    + "`atomic=false`(기본)면 항목별 결과(201/400/404/409 OVERLAP)를, "
+                    + "`atomic=true`면 하나라도 실패 시 전체를 롤백하고 해당 오류로 응답합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "항목별 결과",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ReservationBatchResponse.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                    { "results": [
+                                      { "index": 0, "status": 201,
+                                        "reservation": { "id": 11, "roomId": 1, "userId": 7,
+                                                         "startAt": "2025-09-30T09:00:00Z", "endAt": "2025-09-30T10:00:00Z" },
+                                        "error": null },
+                                      { "index": 1, "status": 409, "reservation": null,
+                                        "error": { "code":"OVERLAP", "message":"요청 시간대가 기존 예약과 겹칩니다." } }
+                                    ] }
+                                    """
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "409", description = "OVERLAP (atomic=true)",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = com.synclife.studyroom.common.ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                    { "code":"OVERLAP", "message":"요청 시간대가 기존 예약과 겹칩니다." }
+                                    """
+                            )
+                    )
+            )
+    })
+    ReservationBatchResponse createBatch(
+            @RequestBody(
+                    required = true,
+                    content = @Content(
+                            schema = @Schema(implementation = CreateReservationBatchRequest.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                    { "atomic": false,
+                                      "items": [
+                                        { "roomId": 1, "startAt": "2025-09-30T09:00:00Z", "endAt": "2025-09-30T10:00:00Z" },
+                                        { "roomId": 1, "startAt": "2025-10-07T09:00:00Z", "endAt": "2025-10-07T10:00:00Z" }
+                                      ] }
+                                    """
+                            )
+                    )
+            )
+            CreateReservationBatchRequest req,
+            HttpServletRequest http
+    );
+
     @Operation(
             summary = "예약 취소 (OWNER or ADMIN)",
             description = "관리자: `admin-token`, 또는 예약자 본인 토큰 필요",
@@ -0,0 +1,6 @@
+package com.synclife.studyroom.room.application;
+
+/**
+ * 회의실 등록 이벤트. 트랜잭션 커밋 이후에만 소비된다.
+ */
+public record RoomCreatedEvent(Long roomId, String name, String location, int capacity) {}
@@ -1,20 +1,33 @@
 package com.synclife.studyroom.room.application;
 
 import com.synclife.studyroom.auth.AuthContext;
+import com.synclife.studyroom.common.StudyroomMetrics;
 import com.synclife.studyroom.room.domain.Room;
 import com.synclife.studyroom.room.domain.RoomRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class RoomService {
     private final RoomRepository rooms;
-    public RoomService(RoomRepository rooms) { this.rooms = rooms; }
+    private final ApplicationEventPublisher events;
+    private final StudyroomMetrics metrics;
+
+    public RoomService(RoomRepository rooms, ApplicationEventPublisher events, StudyroomMetrics metrics) {
+        this.rooms = rooms; this.events = events; this.metrics = metrics;
+    }
 
     @Transactional
     public Room create(String name, String location, int capacity, AuthContext ctx) {
+        return metrics.timed("studyroom.room.create", "created", () -> doCreate(name, location, capacity, ctx));
+    }
+
+    private Room doCreate(String name, String location, int capacity, AuthContext ctx) {
         if (ctx == null) throw new SecurityException("UNAUTHORIZED");
         if (!ctx.isAdmin()) throw new SecurityException("FORBIDDEN");
-        return rooms.save(new Room(name, location, capacity));
+        Room saved = rooms.save(new Room(name, location, capacity));
+        events.publishEvent(new RoomCreatedEvent(saved.getId(), saved.getName(), saved.getLocation(), saved.getCapacity()));
+        return saved;
     }
 }
@@ -11,7 +11,10 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class Room {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // pooled 시퀀스 (schema.sql의 INCREMENT BY 50과 일치) → INSERT 배치 가능
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rooms_id_seq")
+    @SequenceGenerator(name = "rooms_id_seq", sequenceName = "rooms_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)  private String name;
@@ -1,6 +1,18 @@
 package com.synclife.studyroom.room.domain;
 
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface RoomRepository extends JpaRepository<Room, Long> {
+
+    // 가용성 필터: null 조건은 무시, id 오름차순 (idx_rooms_location_capacity / idx_rooms_capacity)
+    @Query("""
+        select r from Room r
+        where (:location is null or r.location = :location)
+          and (:minCapacity is null or r.capacity >= :minCapacity)
+        order by r.id asc
+    """)
+    List<Room> findAllMatching(@Param("location") String location, @Param("minCapacity") Integer minCapacity);
 }
@@ -0,0 +1,19 @@
+package com.synclife.studyroom.room.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 변경 피드(SSE) 한 건: 어떤 날짜/방에 예약이 추가·삭제되었고, 그 방의 빈 슬롯이 어떻게 되었는지.
+ * 여러 날짜에 걸친 예약은 날짜마다 한 건씩 발행된다.
+ */
+public record AvailabilityChange(
+        long id,
+        Type type,
+        LocalDate date,
+        Long roomId,
+        RoomAvailabilityResponse.ReservationWindow reservation,
+        List<RoomAvailabilityResponse.FreeSlot> freeSlots
+) {
+    public enum Type { ADDED, REMOVED }
+}
@@ -0,0 +1,50 @@
+package com.synclife.studyroom.room.dto;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+
+/**
+ * GET /rooms 서버측 필터. 모든 항목은 선택이며 null이면 적용하지 않는다.
+ * - location / minCapacity : 방 단위 조건 (RoomRepository 쿼리로 처리)
+ * - fromTime ~ toTime      : UTC 시각 창. 예약/빈 슬롯을 이 창으로 잘라서 본다 (toTime 없으면 24:00)
+ * - minFreeMinutes         : 이 길이 이상 연속으로 빈 슬롯만 남기고, 하나도 없으면 방 자체를 제외
+ */
+public record AvailabilityFilter(
+        String location,
+        Integer minCapacity,
+        Integer minFreeMinutes,
+        LocalTime fromTime,
+        LocalTime toTime
+) {
+    public static final AvailabilityFilter NONE = new AvailabilityFilter(null, null, null, null, null);
+
+    public AvailabilityFilter {
+        if (minCapacity != null && minCapacity < 1) throw new IllegalArgumentException("minCapacity > 0");
+        if (minFreeMinutes != null && minFreeMinutes < 1) throw new IllegalArgumentException("minFreeMinutes > 0");
+        if (fromTime != null && toTime != null && !fromTime.isBefore(toTime))
+            throw new IllegalArgumentException("fromTime < toTime");
+    }
+
+    public boolean matchesRoom(String roomLocation, int capacity) {
+        return (location == null || location.equals(roomLocation))
+                && (minCapacity == null || capacity >= minCapacity);
+    }
+
+    public Instant windowStart(LocalDate date) {
+        return date.atTime(fromTime != null ? fromTime : LocalTime.MIDNIGHT).toInstant(ZoneOffset.UTC);
+    }
+
+    public Instant windowEnd(LocalDate date) {
+        return toTime != null
+                ? date.atTime(toTime).toInstant(ZoneOffset.UTC)
+                : date.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    /** 최소 연속 빈 시간. null이면 방을 제외하지 않는다. */
+    public Duration minFree() {
+        return minFreeMinutes != null ? Duration.ofMinutes(minFreeMinutes) : null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.synclife.studyroom.room.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기간 조회(NDJSON 스트림)의 한 줄: 방 하나의 하루치 예약/빈 슬롯.
+ */
+public record DailyRoomAvailabilityResponse(
+        LocalDate date,
+        Long roomId,
+        String name,
+        String location,
+        int capacity,
+        List<RoomAvailabilityResponse.ReservationWindow> reservations,
+        List<RoomAvailabilityResponse.FreeSlot> freeSlots
+) {
+    public static DailyRoomAvailabilityResponse of(LocalDate date, RoomAvailabilityResponse r) {
+        return new DailyRoomAvailabilityResponse(
+                date, r.roomId(), r.name(), r.location(), r.capacity(), r.reservations(), r.freeSlots());
+    }
+}
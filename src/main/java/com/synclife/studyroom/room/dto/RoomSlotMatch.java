@@ -0,0 +1,26 @@
+package com.synclife.studyroom.room.dto;
+
+import java.time.Instant;
+import java.util.Comparator;
+
+/**
+ * 빈 방 검색(GET /rooms/search) 결과 하나: 방과 그 방의 연속 빈 구간 [startAt, endAt).
+ */
+public record RoomSlotMatch(
+        Long roomId,
+        String name,
+        String location,
+        int capacity,
+        Instant startAt,
+        Instant endAt
+) {
+    /** 시작이 이른 순, 같으면 수용 인원이 작은 방(조건에 가장 꼭 맞는 방), 방 id 순 */
+    public static final Comparator<RoomSlotMatch> EARLIEST_BEST_FIT = Comparator
+            .comparing(RoomSlotMatch::startAt)
+            .thenComparingInt(RoomSlotMatch::capacity)
+            .thenComparing(RoomSlotMatch::roomId);
+
+    public static RoomSlotMatch of(RoomAvailabilityResponse r, RoomAvailabilityResponse.FreeSlot slot) {
+        return new RoomSlotMatch(r.roomId(), r.name(), r.location(), r.capacity(), slot.startAt(), slot.endAt());
+    }
+}
@@ -3,21 +3,41 @@ package com.synclife.studyroom.room.web;
 import com.synclife.studyroom.api.RoomsApi;
 import com.synclife.studyroom.auth.AuthContext;
 import com.synclife.studyroom.auth.AuthFilter;
+import com.synclife.studyroom.reservation.application.AvailabilityBinaryEncoder;
+import com.synclife.studyroom.reservation.application.AvailabilityCache;
+import com.synclife.studyroom.reservation.application.AvailabilityFeed;
+import com.synclife.studyroom.reservation.application.AvailabilityVersions;
 import com.synclife.studyroom.reservation.application.ReservationService;
 import com.synclife.studyroom.room.application.RoomService;
 import com.synclife.studyroom.room.domain.Room;
+import com.synclife.studyroom.room.dto.AvailabilityFilter;
 import com.synclife.studyroom.room.dto.CreateRoomRequest;
-import com.synclife.studyroom.room.dto.RoomAvailabilityResponse;
 import com.synclife.studyroom.room.dto.RoomResponse;
+import com.synclife.studyroom.room.dto.RoomSlotMatch;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 @Tag(name = "Rooms", description = "회의실 등록 / 가용성 조회")
@@ -25,8 +45,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RoomController implements RoomsApi {
 
+    static final String ROOM_DICTIONARY = "X-Room-Dictionary";
+
     private final RoomService roomService;
     private final ReservationService reservationService;
+    private final AvailabilityCache availabilityCache;
+    private final AvailabilityVersions availabilityVersions;
+    private final AvailabilityFeed availabilityFeed;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/rooms")
     @ResponseStatus(HttpStatus.CREATED)
@@ -39,10 +65,121 @@ public class RoomController implements RoomsApi {
         return RoomResponse.from(saved);
     }
 
+    /**
+     * ETag = 인스턴스 식별자 + 방 버전 + 날짜 버전 (AvailabilityVersions). 버전은 이 인스턴스 메모리의 카운터라
+     * 식별자가 없으면 재기동/다른 인스턴스의 같은 숫자와 섞인다. 그래서 다른 인스턴스나 재기동 후의 If-None-Match는
+     * 맞지 않고 200(전체 응답)이 된다. 여러 인스턴스 뒤에서는 같은 인스턴스로 간 재조회만 304가 된다.
+     */
     @GetMapping("/rooms")
-    public List<RoomAvailabilityResponse> availability(
-            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    public ResponseEntity<byte[]> availability(
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(value = "location", required = false) String location,
+            @RequestParam(value = "minCapacity", required = false) Integer minCapacity,
+            @RequestParam(value = "minFreeMinutes", required = false) Integer minFreeMinutes,
+            @RequestParam(value = "fromTime", required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime fromTime,
+            @RequestParam(value = "toTime", required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime toTime,
+            WebRequest request
+    ) {
+        var filter = new AvailabilityFilter(location, minCapacity, minFreeMinutes, fromTime, toTime);
+
+        // 날짜 버전이 그대로면 조회/직렬화 없이 304
+        var version = availabilityVersions.current(date);
+        String etag = availabilityVersions.etag(version);
+        if (request.checkNotModified(etag)) return null;
+
+        // 직렬화된 JSON을 그대로 내려 캐시 적중 시 Jackson을 건너뛴다
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(availabilityCache.json(date, filter, version));
+    }
+
+    // Accept: application/vnd.studyroom.availability 일 때만 선택된다 (*/* 는 JSON)
+    @GetMapping(value = "/rooms", produces = AvailabilityBinaryEncoder.MEDIA_TYPE_VALUE)
+    public void availabilityBinary(
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(value = "location", required = false) String location,
+            @RequestParam(value = "minCapacity", required = false) Integer minCapacity,
+            @RequestParam(value = "minFreeMinutes", required = false) Integer minFreeMinutes,
+            @RequestParam(value = "fromTime", required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime fromTime,
+            @RequestParam(value = "toTime", required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime toTime,
+            @RequestParam(value = "roomDictionary", required = false) String roomDictionary,
+            WebRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        var filter = new AvailabilityFilter(location, minCapacity, minFreeMinutes, fromTime, toTime);
+
+        var version = availabilityVersions.current(date);
+        String etag = availabilityVersions.etag(version, "bin");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (request.checkNotModified(etag)) return;
+
+        // 클라이언트가 가진 사전이 최신이면 사전을 생략한다
+        String token = availabilityVersions.roomsToken(version);
+        response.setContentType(AvailabilityBinaryEncoder.MEDIA_TYPE_VALUE);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        response.setHeader(ROOM_DICTIONARY, token);
+        reservationService.writeAvailabilityBinary(date, filter, !token.equals(roomDictionary), response.getOutputStream());
+    }
+
+    @GetMapping("/rooms/free")
+    public List<RoomResponse> freeRooms(
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam("fromTime") @DateTimeFormat(pattern = "HH:mm") LocalTime fromTime,
+            @RequestParam("toTime") @DateTimeFormat(pattern = "HH:mm") LocalTime toTime,
+            @RequestParam(value = "location", required = false) String location,
+            @RequestParam(value = "minCapacity", required = false) Integer minCapacity
+    ) {
+        return reservationService.freeRooms(date, new AvailabilityFilter(location, minCapacity, null, fromTime, toTime));
+    }
+
+    @GetMapping("/rooms/search")
+    public List<RoomSlotMatch> search(
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(value = "days", defaultValue = "1") int days,
+            @RequestParam("minutes") int minutes,
+            @RequestParam(value = "fromTime", required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime fromTime,
+            @RequestParam(value = "toTime", required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime toTime,
+            @RequestParam(value = "location", required = false) String location,
+            @RequestParam(value = "minCapacity", required = false) Integer minCapacity,
+            @RequestParam(value = "limit", defaultValue = "10") int limit
+    ) {
+        var filter = new AvailabilityFilter(location, minCapacity, minutes, fromTime, toTime);
+        return reservationService.search(date, days, filter, limit);
+    }
+
+    @GetMapping(value = "/rooms/availability", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> availabilityRange(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        // 스트리밍 시작 전에 검증해야 400으로 응답할 수 있다.
+        reservationService.validateAvailabilityRange(from, to);
+
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator gen = objectMapper.createGenerator(out)) {
+                reservationService.streamAvailability(from, to, day -> {
+                    try {
+                        writer.writeValue(gen, day);
+                        gen.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping(value = "/rooms/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter changes(
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
     ) {
-        return reservationService.availability(date);
+        return availabilityFeed.subscribe(date, lastEventId);
     }
 }
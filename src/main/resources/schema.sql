@@ -1,10 +1,19 @@
+DROP SCHEMA IF EXISTS reservations_archive CASCADE;
 DROP TABLE IF EXISTS reservations;
+DROP FUNCTION IF EXISTS reservations_cross_partition_overlap();
 DROP TABLE IF EXISTS rooms;
+DROP SEQUENCE IF EXISTS reservations_id_seq;
+DROP SEQUENCE IF EXISTS rooms_id_seq;
 
 CREATE EXTENSION IF NOT EXISTS btree_gist;
 
+-- ID는 pooled 시퀀스: INCREMENT BY = JPA allocationSize(50) 이어야 한다.
+-- Hibernate가 한 번의 nextval로 50개 ID를 확보하므로 INSERT를 JDBC 배치로 묶을 수 있다.
+CREATE SEQUENCE rooms_id_seq INCREMENT BY 50;
+CREATE SEQUENCE reservations_id_seq INCREMENT BY 50;
+
 CREATE TABLE rooms (
-  id         BIGSERIAL PRIMARY KEY,
+  id         BIGINT      PRIMARY KEY DEFAULT nextval('rooms_id_seq'),
   name       TEXT        NOT NULL,
   location   TEXT        NOT NULL,
   capacity   INT         NOT NULL CHECK (capacity > 0),
@@ -12,19 +21,81 @@ CREATE TABLE rooms (
 );
 
 CREATE INDEX idx_rooms_name ON rooms (name);
+-- 가용성 필터 (location = ? AND capacity >= ?) / (capacity >= ?)
+CREATE INDEX idx_rooms_location_capacity ON rooms (location, capacity);
+CREATE INDEX idx_rooms_capacity ON rooms (capacity);
 
+-- start_at 기준 월별 RANGE 파티션. 파티션은 ReservationPartitions가 미리 만들고 보존 기간이 지나면 떼어 낸다.
+-- 파티션 키가 PK에 포함되어야 하므로 PK는 (id, start_at)이다. 분할 테이블에는 id만의 UNIQUE를 걸 수 없어
+-- id의 전역 유일성은 DB가 검사하지 않고 reservations_id_seq 하나로만 보장한다 (파티션별 UNIQUE(id)도 다른 파티션과의 중복은 못 막는다).
+-- → id는 항상 이 시퀀스에서 받는다: JPA(@SequenceGenerator)와 ReservationBatchWriter(컬럼 DEFAULT)만 INSERT하고, id를 직접 넣지 않는다.
+--   기본 파티션 → 월 파티션 이동, 보관 스키마로의 DETACH는 행을 옮길 뿐 id를 새로 만들지 않는다.
 CREATE TABLE reservations (
-  id         BIGSERIAL PRIMARY KEY,
-  room_id    BIGINT      NOT NULL REFERENCES rooms(id) ON DELETE CASCADE,
+  id         BIGINT      NOT NULL DEFAULT nextval('reservations_id_seq'),
+  room_id    BIGINT      NOT NULL CONSTRAINT reservations_room_id_fkey REFERENCES rooms(id) ON DELETE CASCADE,
   user_id    BIGINT      NOT NULL,
   start_at   TIMESTAMPTZ NOT NULL,
   end_at     TIMESTAMPTZ NOT NULL,
   period     tstzrange   GENERATED ALWAYS AS (tstzrange(start_at, end_at, '[)')) STORED,
   created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
   CONSTRAINT chk_time_range CHECK (start_at < end_at),
+  -- 최대 길이(ReservationConstraints.MAX_DURATION)가 있어야 조회/경계 검사에서 파티션을 좁힐 수 있다
+  CONSTRAINT chk_max_duration CHECK (end_at <= start_at + interval '7 days'),
+  PRIMARY KEY (id, start_at)
+) PARTITION BY RANGE (start_at);
+
+-- 가용성 조회 (start_at 범위 + end_at > ?)
+CREATE INDEX idx_reservations_start_at ON reservations (start_at);
+
+-- 아직 월 파티션이 없는 구간의 행. 월 파티션을 만들 때 해당 월 행은 옮겨진다.
+CREATE TABLE reservations_default PARTITION OF reservations DEFAULT;
+
+-- 분할 테이블에는 EXCLUDE를 걸 수 없으므로 파티션마다 건다 (이름: <파티션>_no_overlap, ReservationConstraints와 맞춘다)
+-- SQLSTATE 23P01 + 제약명 → 409 OVERLAP
+ALTER TABLE reservations_default
+  ADD CONSTRAINT reservations_default_no_overlap EXCLUDE USING gist (room_id WITH =, period WITH &&);
+
+-- 파티션 경계를 넘는 겹침 검사. 같은 달(= 같은 파티션) 안의 겹침은 파티션 EXCLUDE가 막고,
+-- 여기서는 다른 달에서 시작한 예약과의 겹침만 본다. 예약은 최대 7일이므로
+-- - 다음 달로 넘어가지 않고 시작이 월초 7일 이후인 행(대부분)은 검사 없이 통과
+-- - 다음 달로 넘어가는 행은 방 단위 배타 advisory 잠금, 월초 7일 안에서 시작하는 행은 공유 잠금 후 검사
+--   → 서로 다른 달의 두 행이 겹치려면 적어도 하나는 월 경계를 넘으므로 둘은 직렬화된다 (READ COMMITTED 전제)
+-- 충돌 시 exclusion_violation(23P01, 제약명 reservations_no_overlap)을 던진다.
+-- 세션 설정 studyroom.on_overlap = 'skip' 이면 ON CONFLICT DO NOTHING처럼 그 행만 건너뛴다 (ReservationBatchWriter).
+CREATE FUNCTION reservations_cross_partition_overlap() RETURNS trigger LANGUAGE plpgsql AS '
+DECLARE
+  lo timestamptz := date_trunc(''month'', NEW.start_at, ''UTC'');
+  hi timestamptz := date_trunc(''month'', NEW.start_at, ''UTC'') + interval ''1 month'';
+BEGIN
+  IF NEW.end_at <= hi AND NEW.start_at >= lo + interval ''7 days'' THEN
+    RETURN NEW;
+  END IF;
+  IF NEW.end_at > hi THEN
+    PERFORM pg_advisory_xact_lock(hashtext(''reservations''), hashint8(NEW.room_id));
+  ELSE
+    PERFORM pg_advisory_xact_lock_shared(hashtext(''reservations''), hashint8(NEW.room_id));
+  END IF;
+  IF EXISTS (
+    SELECT 1 FROM reservations r
+    WHERE r.room_id = NEW.room_id
+      AND r.start_at > NEW.start_at - interval ''7 days''
+      AND r.start_at < NEW.end_at
+      AND (r.start_at < lo OR r.start_at >= hi)
+      AND r.period && tstzrange(NEW.start_at, NEW.end_at, ''[)'')
+      AND r.id <> NEW.id
+  ) THEN
+    IF current_setting(''studyroom.on_overlap'', true) = ''skip'' THEN
+      RETURN NULL;
+    END IF;
+    RAISE EXCEPTION ''conflicting key value violates exclusion constraint "reservations_no_overlap"''
+      USING ERRCODE = ''exclusion_violation'', CONSTRAINT = ''reservations_no_overlap'', TABLE = ''reservations'';
+  END IF;
+  RETURN NEW;
+END';
+
+CREATE TRIGGER reservations_cross_partition_overlap
+  BEFORE INSERT OR UPDATE OF room_id, start_at, end_at ON reservations
+  FOR EACH ROW EXECUTE FUNCTION reservations_cross_partition_overlap();
 
-  EXCLUDE USING gist (
-    room_id WITH =,
-    period  WITH &&
-  )
-);
\ No newline at end of file
+ALTER SEQUENCE rooms_id_seq OWNED BY rooms.id;
+ALTER SEQUENCE reservations_id_seq OWNED BY reservations.id;
@@ -0,0 +1,116 @@
+package com.synclife.studyroom.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthFilterTest {
+
+    final SimpleTokenVerifier simple = new SimpleTokenVerifier();
+
+    @Test
+    void parses_admin_and_user_tokens() {
+        AuthFilter filter = filter(simple);
+        assertThat(filter.resolve("Bearer admin-token")).isEqualTo(new AuthContext(Role.ADMIN, null));
+        assertThat(filter.resolve("Bearer user-token-7")).isEqualTo(new AuthContext(Role.USER, 7L));
+        assertThat(filter.resolve("Bearer   user-token-42  ")).isEqualTo(new AuthContext(Role.USER, 42L));
+        assertThat(filter.resolve("Bearer user-token-" + Long.MAX_VALUE))
+                .isEqualTo(new AuthContext(Role.USER, Long.MAX_VALUE));
+    }
+
+    @Test
+    void rejects_malformed_headers() {
+        AuthFilter filter = filter(simple);
+        assertThat(filter.resolve(null)).isNull();
+        assertThat(filter.resolve("")).isNull();
+        assertThat(filter.resolve("Basic admin-token")).isNull();
+        assertThat(filter.resolve("Bearer ")).isNull();
+        assertThat(filter.resolve("Bearer admin-tokens")).isNull();
+        assertThat(filter.resolve("Bearer user-token-")).isNull();
+        assertThat(filter.resolve("Bearer user-token-12x")).isNull();
+        assertThat(filter.resolve("Bearer user-token--1")).isNull();
+        assertThat(filter.resolve("Bearer user-token-9223372036854775808")).isNull();
+    }
+
+    @Test
+    void resolve_verifies_each_header_once() {
+        AtomicInteger calls = new AtomicInteger();
+        AuthFilter filter = filter(token -> { calls.incrementAndGet(); return simple.verify(token); });
+
+        AuthContext first = filter.resolve("Bearer user-token-7");
+        assertThat(filter.resolve("Bearer user-token-7")).isSameAs(first);
+        assertThat(calls).hasValue(1);
+
+        assertThat(filter.resolve("Bearer user-token-8")).isNotSameAs(first);
+        assertThat(filter.resolve("Bearer nope")).isNull();
+        assertThat(filter.resolve("Bearer nope")).isNull();
+        // 실패한 토큰은 캐시하지 않는다
+        assertThat(calls).hasValue(4);
+    }
+
+    @Test
+    void cached_token_is_verified_again_after_it_expires() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-03-02T09:00:00Z"));
+        HmacTokenVerifier hmac = new HmacTokenVerifier("0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8),
+                "studyroom", Duration.ZERO, clock, new ObjectMapper());
+        AtomicInteger calls = new AtomicInteger();
+        // 캐시 시간(ticker)도 같은 가짜 시계로
+        AuthFilter filter = new AuthFilter(token -> { calls.incrementAndGet(); return hmac.verify(token); },
+                100, Duration.ofMinutes(5), clock, () -> Duration.between(Instant.EPOCH, clock.instant()).toNanos());
+        // max-ttl(5분)보다 먼저 만료되는 토큰
+        String header = "Bearer " + hmac.sign("""
+                {"sub":"7","role":"USER","iss":"studyroom","exp":%d}""".formatted(clock.instant().plusSeconds(60).getEpochSecond()));
+
+        assertThat(filter.resolve(header)).isEqualTo(new AuthContext(Role.USER, 7L));
+        clock.advance(Duration.ofSeconds(59));
+        assertThat(filter.resolve(header)).isEqualTo(new AuthContext(Role.USER, 7L));
+        assertThat(calls).hasValue(1);
+
+        // 만료 후에는 캐시에서 꺼내지 않고 다시 검증 → 만료로 거절
+        clock.advance(Duration.ofSeconds(2));
+        assertThat(filter.resolve(header)).isNull();
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void token_without_expiry_is_cached_for_max_ttl() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-03-02T09:00:00Z"));
+        AtomicInteger calls = new AtomicInteger();
+        AuthFilter filter = new AuthFilter(token -> { calls.incrementAndGet(); return simple.verify(token); },
+                100, Duration.ofMinutes(5), clock, () -> Duration.between(Instant.EPOCH, clock.instant()).toNanos());
+
+        filter.resolve("Bearer user-token-7");
+        clock.advance(Duration.ofMinutes(4));
+        filter.resolve("Bearer user-token-7");
+        assertThat(calls).hasValue(1);
+
+        clock.advance(Duration.ofMinutes(2));
+        assertThat(filter.resolve("Bearer user-token-7")).isEqualTo(new AuthContext(Role.USER, 7L));
+        assertThat(calls).hasValue(2);
+    }
+
+    private static AuthFilter filter(TokenVerifier verifier) {
+        return new AuthFilter(verifier, 100, Duration.ofMinutes(5), Clock.systemUTC());
+    }
+
+    static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) { this.now = now; }
+
+        void advance(Duration d) { now = now.plus(d); }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
+}
@@ -0,0 +1,70 @@
+package com.synclife.studyroom.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HmacTokenVerifierTest {
+
+    static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+    static final Instant NOW = Instant.parse("2026-03-02T09:00:00Z");
+
+    final HmacTokenVerifier verifier = new HmacTokenVerifier(
+            SECRET, "studyroom", Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC), new ObjectMapper());
+
+    @Test
+    void accepts_signed_user_and_admin_tokens() {
+        long exp = NOW.plusSeconds(600).getEpochSecond();
+        var user = verifier.verify(verifier.sign("""
+                {"sub":"7","role":"USER","iss":"studyroom","exp":%d}""".formatted(exp)));
+        assertThat(user.context()).isEqualTo(new AuthContext(Role.USER, 7L));
+        assertThat(user.expiresAt()).isEqualTo(Instant.ofEpochSecond(exp));
+
+        var admin = verifier.verify(verifier.sign("""
+                {"sub":"ops","role":"ADMIN","iss":"studyroom","exp":%d}""".formatted(exp)));
+        assertThat(admin.context()).isEqualTo(new AuthContext(Role.ADMIN, null));
+    }
+
+    @Test
+    void rejects_tampered_expired_and_foreign_tokens() {
+        long exp = NOW.plusSeconds(600).getEpochSecond();
+        String token = verifier.sign("""
+                {"sub":"7","role":"USER","iss":"studyroom","exp":%d}""".formatted(exp));
+
+        String forged = verifier.sign("""
+                {"sub":"1","role":"ADMIN","iss":"studyroom","exp":%d}""".formatted(exp));
+        String tampered = forged.substring(0, forged.lastIndexOf('.')) + token.substring(token.lastIndexOf('.'));
+        assertThat(verifier.verify(tampered)).isNull();
+
+        assertThat(verifier.verify(verifier.sign("""
+                {"sub":"7","role":"USER","iss":"studyroom","exp":%d}""".formatted(NOW.minusSeconds(60).getEpochSecond()))))
+                .isNull();
+        assertThat(verifier.verify(verifier.sign("""
+                {"sub":"7","role":"USER","iss":"other","exp":%d}""".formatted(exp)))).isNull();
+        assertThat(verifier.verify(verifier.sign("""
+                {"sub":"7","role":"USER","iss":"studyroom"}"""))).isNull();
+
+        HmacTokenVerifier otherKey = new HmacTokenVerifier("another-secret-another-secret-xx".getBytes(StandardCharsets.UTF_8),
+                "studyroom", Duration.ZERO, Clock.fixed(NOW, ZoneOffset.UTC), new ObjectMapper());
+        assertThat(verifier.verify(otherKey.sign("""
+                {"sub":"7","role":"USER","iss":"studyroom","exp":%d}""".formatted(exp)))).isNull();
+
+        assertThat(verifier.verify("not-a-jwt")).isNull();
+        assertThat(verifier.verify("a.b.c")).isNull();
+    }
+
+    @Test
+    void requires_a_long_enough_secret() {
+        assertThatThrownBy(() -> new HmacTokenVerifier("short".getBytes(StandardCharsets.UTF_8), null,
+                Duration.ZERO, Clock.systemUTC(), new ObjectMapper()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
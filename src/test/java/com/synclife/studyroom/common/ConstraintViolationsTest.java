@@ -0,0 +1,73 @@
+package com.synclife.studyroom.common;
+
+import com.synclife.studyroom.reservation.domain.ReservationConstraints;
+import org.junit.jupiter.api.Test;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConstraintViolationsTest {
+
+    @Test
+    void classifies_by_sqlstate_and_constraint_name() {
+        var v = ConstraintViolations.classify(wrap(psql("23P01", "reservations_no_overlap")));
+        assertThat(v.kind()).isEqualTo(ConstraintViolations.Kind.EXCLUSION);
+        assertThat(v.constraint()).isEqualTo("reservations_no_overlap");
+
+        assertThat(ConstraintViolations.classify(wrap(new SQLException("x", "22001"))).kind())
+                .isEqualTo(ConstraintViolations.Kind.OTHER);
+        assertThat(ConstraintViolations.classify(new RuntimeException("no sql")).kind())
+                .isEqualTo(ConstraintViolations.Kind.OTHER);
+    }
+
+    @Test
+    void finds_nested_and_batch_causes() {
+        var nested = wrap(new RuntimeException("statement", psql("23503", "reservations_room_id_fkey")));
+        assertThat(ConstraintViolations.classify(nested).kind()).isEqualTo(ConstraintViolations.Kind.FOREIGN_KEY);
+
+        var batch = new BatchUpdateException("batch", "23P01", new int[0]);
+        batch.setNextException(psql("23P01", "reservations_no_overlap"));
+        assertThat(ConstraintViolations.classify(wrap(batch)).constraint()).isEqualTo("reservations_no_overlap");
+    }
+
+    @Test
+    void translates_reservation_constraints_to_business_exceptions() {
+        assertThat(ReservationConstraints.translate(wrap(psql("23P01", "reservations_no_overlap"))))
+                .isInstanceOf(OverlapConflictException.class)
+                .hasMessage("CONFLICT_OVERLAP");
+        assertThat(ReservationConstraints.translate(wrap(psql("23503", "reservations_room_id_fkey"))))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(ReservationConstraints.translate(wrap(psql("23514", "chk_time_range"))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 파티션별 EXCLUDE 제약명
+        assertThat(ReservationConstraints.translate(wrap(psql("23P01", "reservations_p2026_03_no_overlap"))))
+                .isInstanceOf(OverlapConflictException.class);
+        assertThat(ReservationConstraints.translate(wrap(psql("23514", "chk_max_duration"))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 다른 제약(예: 다른 테이블 FK)은 그대로 둔다
+        var other = wrap(psql("23503", "some_other_fkey"));
+        assertThat(ReservationConstraints.translate(other)).isSameAs(other);
+    }
+
+    @Test
+    void business_exceptions_are_stackless() {
+        assertThat(new OverlapConflictException().getStackTrace()).isEmpty();
+        assertThat(new ResourceNotFoundException("room not found").getStackTrace()).isEmpty();
+    }
+
+    private static PSQLException psql(String sqlState, String constraint) {
+        return new PSQLException(new ServerErrorMessage(
+                "SERROR\0C" + sqlState + "\0Mviolation\0n" + constraint + "\0"));
+    }
+
+    private static DataIntegrityViolationException wrap(Throwable cause) {
+        return new DataIntegrityViolationException("could not execute statement", cause);
+    }
+}
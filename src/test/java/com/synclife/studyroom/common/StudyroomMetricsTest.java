@@ -0,0 +1,36 @@
+package com.synclife.studyroom.common;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudyroomMetricsTest {
+
+    final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void service_unavailable_responses_have_their_own_outcome() {
+        for (String message : new String[]{"WRITE_QUEUE_BUSY", "TOO_MANY_SUBSCRIBERS"}) {
+            IllegalStateException e = new IllegalStateException(message);
+            assertThat(StudyroomMetrics.outcome(e)).isEqualTo("unavailable");
+            assertThat(handler.conflict(e).getStatusCode().value()).isEqualTo(503);
+        }
+        var poolExhausted = new CannotCreateTransactionException("Could not open JDBC Connection");
+        assertThat(StudyroomMetrics.outcome(poolExhausted)).isEqualTo("unavailable");
+        assertThat(handler.unavailable(poolExhausted).getStatusCode().value()).isEqualTo(503);
+    }
+
+    @Test
+    void outcome_follows_exception_handler_mapping() {
+        assertThat(StudyroomMetrics.outcome(new IllegalStateException("CONFLICT_OVERLAP"))).isEqualTo("overlap");
+        assertThat(StudyroomMetrics.outcome(new IllegalStateException("already cancelled"))).isEqualTo("conflict");
+        assertThat(StudyroomMetrics.outcome(new IllegalStateException())).isEqualTo("conflict");
+        assertThat(StudyroomMetrics.outcome(new NoSuchElementException())).isEqualTo("not_found");
+        assertThat(StudyroomMetrics.outcome(new IllegalArgumentException())).isEqualTo("invalid");
+        assertThat(StudyroomMetrics.outcome(new SecurityException("UNAUTHORIZED"))).isEqualTo("unauthorized");
+        assertThat(StudyroomMetrics.outcome(new SecurityException("FORBIDDEN"))).isEqualTo("forbidden");
+    }
+}
@@ -0,0 +1,167 @@
+package com.synclife.studyroom.config;
+
+import com.synclife.studyroom.auth.AuthContext;
+import com.synclife.studyroom.auth.AuthFilter;
+import com.synclife.studyroom.auth.Role;
+import com.synclife.studyroom.common.ReadConsistency;
+import com.synclife.studyroom.common.StudyroomMetrics;
+import com.synclife.studyroom.reservation.application.ReservationChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베디드 PostgreSQL 하나에 DB 두 개(primary stand-in = postgres, replica stand-in = replica)를 두고
+ * 어느 쪽으로 라우팅됐는지 current_database()로 확인한다.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    static EmbeddedPostgres postgres;
+    static DataSource primary, replica;
+
+    final MutableClock clock = new MutableClock(Instant.parse("2026-03-02T09:00:00Z"));
+    ReplicaLagMonitor lagMonitor;
+    ReadYourWrites readYourWrites;
+    JdbcTemplate jdbc;
+    TransactionTemplate readOnly, readWrite;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        primary = postgres.getPostgresDatabase();
+        new JdbcTemplate(primary).execute("CREATE DATABASE replica");
+        replica = postgres.getDatabase("postgres", "replica");
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        lagMonitor = new ReplicaLagMonitor(primary, replica, Duration.ofSeconds(1), clock, new SimpleMeterRegistry());
+        readYourWrites = new ReadYourWrites(primary, Duration.ofSeconds(1), 1000);
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                primary, replica, lagMonitor, readYourWrites, new StudyroomMetrics(new SimpleMeterRegistry())));
+        jdbc = new JdbcTemplate(routing);
+        var txManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(txManager);
+        readOnly = new TransactionTemplate(txManager);
+        readOnly.setReadOnly(true);
+        lagMonitor.check();
+    }
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void read_only_transactions_go_to_replica_and_writes_to_primary() {
+        assertThat(database(readOnly)).isEqualTo("replica");
+        assertThat(database(readWrite)).isEqualTo("postgres");
+        // 트랜잭션 밖 조회도 프라이머리
+        assertThat(jdbc.queryForObject("SELECT current_database()", String.class)).isEqualTo("postgres");
+    }
+
+    @Test
+    void falls_back_to_primary_when_lag_exceeds_bound() {
+        clock.advance(Duration.ofMillis(1500));
+        assertThat(database(readOnly)).isEqualTo("postgres");
+
+        lagMonitor.check();
+        assertThat(database(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void reads_own_writes_from_primary_until_replica_replays_them() {
+        // 측정 이후의 커밋: 레플리카가 아직 이 LSN까지 재생했는지 모른다
+        write();
+        readYourWrites.record(7L);
+
+        asUser(7L, Role.USER);
+        assertThat(database(readOnly)).isEqualTo("postgres");
+        asUser(8L, Role.USER);
+        assertThat(database(readOnly)).isEqualTo("replica");
+
+        // 시간만 흘러서는 안 되고, 레플리카 재생 위치가 그 LSN을 넘어야 다시 레플리카
+        clock.advance(Duration.ofMillis(10));
+        asUser(7L, Role.USER);
+        assertThat(database(readOnly)).isEqualTo("postgres");
+        lagMonitor.check();
+        assertThat(database(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void read_your_writes_is_keyed_by_acting_user() {
+        // 관리자(1)가 사용자 7의 예약을 취소
+        asUser(1L, Role.ADMIN);
+        write();
+        readYourWrites.on(ReservationChangedEvent.cancelled(10L, 2L, 7L,
+                Instant.parse("2026-03-02T10:00:00Z"), Instant.parse("2026-03-02T11:00:00Z")));
+
+        assertThat(database(readOnly)).isEqualTo("postgres");
+        asUser(7L, Role.USER);
+        assertThat(database(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void explicit_consistency_requirements_are_honoured() {
+        assertThat(ReadConsistency.primary(() -> database(readOnly))).isEqualTo("postgres");
+        assertThat(ReadConsistency.atLeast(clock.instant().plusMillis(1), () -> database(readOnly))).isEqualTo("postgres");
+        assertThat(ReadConsistency.atLeast(clock.instant().minusMillis(1), () -> database(readOnly))).isEqualTo("replica");
+        assertThat(ReadConsistency.required()).isNull();
+    }
+
+    private String database(TransactionTemplate tx) {
+        return tx.execute(s -> jdbc.queryForObject("SELECT current_database()", String.class));
+    }
+
+    /** 프라이머리 WAL을 앞으로 민다 */
+    private void write() {
+        readWrite.executeWithoutResult(s -> {
+            jdbc.execute("CREATE TABLE IF NOT EXISTS routing_probe(id bigint)");
+            jdbc.update("INSERT INTO routing_probe VALUES (1)");
+        });
+    }
+
+    private static void asUser(Long userId, Role role) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(AuthFilter.ATTR, new AuthContext(role, userId));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) { this.now = now; }
+
+        void advance(Duration d) { now = now.plus(d); }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
+}
@@ -0,0 +1,45 @@
+package com.synclife.studyroom.load;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * docker-compose 없이 쓰는 로컬 PostgreSQL 프로세스 (zonky embedded-postgres 바이너리).
+ * JVM당 한 번 띄우고 종료 시 내린다. 스키마는 앱과 같은 schema.sql(spring.sql.init)로 만든다.
+ */
+final class EmbeddedPostgresSupport {
+
+    private static EmbeddedPostgres postgres;
+
+    private EmbeddedPostgresSupport() {}
+
+    static synchronized EmbeddedPostgres start() {
+        if (postgres == null) {
+            try {
+                postgres = EmbeddedPostgres.builder()
+                        .setServerConfig("max_connections", "300")
+                        .setServerConfig("fsync", "off")
+                        .setServerConfig("synchronous_commit", "off")
+                        .start();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try { postgres.close(); } catch (IOException ignore) {}
+            }));
+        }
+        return postgres;
+    }
+
+    /** @DynamicPropertySource에서 호출: 데이터소스를 임베디드 인스턴스로 돌린다 */
+    static void register(DynamicPropertyRegistry registry) {
+        EmbeddedPostgres pg = start();
+        registry.add("spring.datasource.url",
+                () -> pg.getJdbcUrl("postgres", "postgres") + "&reWriteBatchedInserts=true");
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+}
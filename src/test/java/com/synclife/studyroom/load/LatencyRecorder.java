@@ -0,0 +1,61 @@
+package com.synclife.studyroom.load;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/** 작업 종류 하나의 지연(ns)과 결과 수. 용량은 최대 기록 수로 미리 잡는다. */
+final class LatencyRecorder {
+
+    private final AtomicLongArray samples;
+    private final AtomicInteger size = new AtomicInteger();
+    final AtomicInteger ok = new AtomicInteger();
+    final AtomicInteger conflicts = new AtomicInteger();
+    final AtomicInteger errors = new AtomicInteger();
+
+    LatencyRecorder(int capacity) {
+        this.samples = new AtomicLongArray(capacity);
+    }
+
+    void record(long nanos, int status) {
+        int i = size.getAndIncrement();
+        if (i < samples.length()) samples.set(i, nanos);
+        if (status >= 200 && status < 300) ok.incrementAndGet();
+        else if (status == 409) conflicts.incrementAndGet();
+        else errors.incrementAndGet();
+    }
+
+    int count() { return Math.min(size.get(), samples.length()); }
+
+    Map<String, Object> summary(double seconds) {
+        int n = count();
+        long[] sorted = new long[n];
+        for (int i = 0; i < n; i++) sorted[i] = samples.get(i);
+        Arrays.sort(sorted);
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("count", n);
+        out.put("throughputPerSec", round(n / seconds));
+        out.put("p50Ms", millis(sorted, 0.50));
+        out.put("p99Ms", millis(sorted, 0.99));
+        out.put("p999Ms", millis(sorted, 0.999));
+        out.put("maxMs", n == 0 ? 0.0 : round(sorted[n - 1] / 1e6));
+        out.put("ok", ok.get());
+        out.put("conflicts", conflicts.get());
+        out.put("conflictRate", n == 0 ? 0.0 : round((double) conflicts.get() / n));
+        out.put("errors", errors.get());
+        return out;
+    }
+
+    private static double millis(long[] sorted, double q) {
+        if (sorted.length == 0) return 0.0;
+        int i = Math.min(sorted.length - 1, (int) Math.ceil(q * sorted.length) - 1);
+        return round(sorted[Math.max(0, i)] / 1e6);
+    }
+
+    private static double round(double v) {
+        return Math.round(v * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,178 @@
+package com.synclife.studyroom.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베디드 PostgreSQL + 실제 schema.sql 위에서 HTTP로 혼합 부하를 건다.
+ * - read   : GET /rooms?date= (예약이 몰리는 날짜들)
+ * - create : 소수의 (방, 슬롯) 조합을 여러 클라이언트가 동시에 노림 → 409 경합
+ * - cancel : 자기가 만든 예약 취소
+ * 종료 후 작업별 처리량 / p50 / p99 / p999 / 충돌률을 JSON으로 남긴다 (빌드 간 diff용).
+ * ./gradlew loadTest (결과: build/load-test/summary.json)
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class MixedWorkloadLoadTest {
+
+    static final int CLIENTS = Integer.getInteger("loadTest.clients", 200);
+    static final int OPS_PER_CLIENT = Integer.getInteger("loadTest.opsPerClient", 100);
+    static final int ROOMS = 20;
+    static final int SLOTS_PER_ROOM = 16;
+    // 조회가 인메모리 인덱스 창(오늘 - 7일 ~ 오늘 + horizon-days) 안에서 일어나도록 오늘 기준
+    static final LocalDate DATE = LocalDate.now(ZoneOffset.UTC).plusDays(1);
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresSupport.register(registry);
+    }
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired ObjectMapper objectMapper;
+    @LocalServerPort int port;
+
+    List<Long> roomIds;
+
+    @BeforeEach
+    void reset() {
+        jdbc.update("DELETE FROM reservations");
+        jdbc.update("DELETE FROM rooms");
+        for (int i = 0; i < ROOMS; i++) {
+            jdbc.update("INSERT INTO rooms(name, location, capacity) VALUES (?, ?, ?)", "R" + i, (i % 3 + 1) + "F", 2 + i % 8);
+        }
+        roomIds = jdbc.queryForList("SELECT id FROM rooms ORDER BY id", Long.class);
+    }
+
+    @Test
+    void mixed_reads_contended_creates_and_cancels() throws Exception {
+        HttpClient http = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        int capacity = CLIENTS * OPS_PER_CLIENT;
+        Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+        recorders.put("read", new LatencyRecorder(capacity));
+        recorders.put("create", new LatencyRecorder(capacity));
+        recorders.put("cancel", new LatencyRecorder(capacity));
+        AtomicInteger failures = new AtomicInteger();
+
+        CountDownLatch start = new CountDownLatch(1);
+        long t0;
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CLIENTS; c++) {
+                final long userId = c + 1;
+                clients.submit(() -> {
+                    Random random = new Random(userId);
+                    Deque<Long> mine = new ArrayDeque<>();
+                    try {
+                        start.await();
+                        for (int i = 0; i < OPS_PER_CLIENT; i++) {
+                            int dice = random.nextInt(100);
+                            if (dice < 60) {
+                                call(http, recorders.get("read"), get(userId, random));
+                            } else if (dice < 90 || mine.isEmpty()) {
+                                HttpResponse<String> res = call(http, recorders.get("create"), create(userId, random));
+                                if (res.statusCode() == 201) mine.push(objectMapper.readTree(res.body()).get("id").asLong());
+                            } else {
+                                call(http, recorders.get("cancel"), cancel(userId, mine.pop()));
+                            }
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            t0 = System.nanoTime();
+            start.countDown();
+        }
+        double seconds = (System.nanoTime() - t0) / 1e9;
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("timestamp", Instant.now().toString());
+        summary.put("clients", CLIENTS);
+        summary.put("opsPerClient", OPS_PER_CLIENT);
+        summary.put("rooms", ROOMS);
+        summary.put("slotsPerRoom", SLOTS_PER_ROOM);
+        summary.put("durationSec", Math.round(seconds * 1000) / 1000.0);
+        summary.put("totalThroughputPerSec", Math.round(capacity / seconds * 1000) / 1000.0);
+        Map<String, Object> ops = new LinkedHashMap<>();
+        recorders.forEach((name, r) -> ops.put(name, r.summary(seconds)));
+        summary.put("operations", ops);
+
+        Path out = Path.of(System.getProperty("loadTest.output", "build/load-test"), "summary.json");
+        Files.createDirectories(out.getParent());
+        objectMapper.writer().with(SerializationFeature.INDENT_OUTPUT).writeValue(out.toFile(), summary);
+        System.out.println(Files.readString(out));
+
+        assertThat(failures.get()).isZero();
+        recorders.values().forEach(r -> assertThat(r.errors.get()).isZero());
+        // 경합이 있었어도 같은 방에 겹치는 예약은 없어야 한다
+        Integer overlaps = jdbc.queryForObject("""
+                SELECT COUNT(*) FROM reservations a JOIN reservations b
+                  ON a.room_id = b.room_id AND a.id < b.id AND a.period && b.period
+                """, Integer.class);
+        assertThat(overlaps).isZero();
+    }
+
+    private HttpResponse<String> call(HttpClient http, LatencyRecorder recorder, HttpRequest request) throws Exception {
+        long t = System.nanoTime();
+        HttpResponse<String> res = http.send(request, HttpResponse.BodyHandlers.ofString());
+        recorder.record(System.nanoTime() - t, res.statusCode());
+        return res;
+    }
+
+    private HttpRequest get(long userId, Random random) {
+        LocalDate date = DATE.plusDays(random.nextInt(3));
+        return base(userId, "/rooms?date=" + date).GET().build();
+    }
+
+    // 하루 SLOTS_PER_ROOM개의 30분 슬롯만 노리므로 클라이언트가 많을수록 충돌이 잦다
+    private HttpRequest create(long userId, Random random) {
+        Long roomId = roomIds.get(random.nextInt(ROOMS));
+        Instant s = DATE.atStartOfDay().toInstant(ZoneOffset.UTC)
+                .plus(Duration.ofHours(8))
+                .plus(Duration.ofMinutes(30L * random.nextInt(SLOTS_PER_ROOM)));
+        String body = """
+                {"roomId":%d,"startAt":"%s","endAt":"%s"}""".formatted(roomId, s, s.plus(Duration.ofMinutes(30)));
+        return base(userId, "/reservations")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest cancel(long userId, long reservationId) {
+        return base(userId, "/reservations/" + reservationId).DELETE().build();
+    }
+
+    private HttpRequest.Builder base(long userId, String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer user-token-" + userId)
+                .timeout(Duration.ofSeconds(60));
+    }
+}
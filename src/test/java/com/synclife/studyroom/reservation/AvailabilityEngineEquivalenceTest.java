@@ -0,0 +1,85 @@
+package com.synclife.studyroom.reservation;
+
+import com.synclife.studyroom.reservation.application.DatabaseAvailabilityReader;
+import com.synclife.studyroom.reservation.application.PostgresRangeAvailabilityEngine;
+import com.synclife.studyroom.reservation.application.ReservationIndex;
+import com.synclife.studyroom.room.dto.AvailabilityFilter;
+import com.synclife.studyroom.room.dto.RoomAvailabilityResponse;
+import org.junit.jupiter.api.RepeatedTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 무작위 데이터셋에서 Java 스윕 / PostgreSQL multirange / 인메모리 인덱스 결과가 같은지 검증.
+ * 실패 메시지의 seed를 -Pequivalence.seed=<seed>(시스템 프로퍼티 equivalence.seed)로 넘기면 같은 데이터셋으로 재현된다.
+ */
+@SpringBootTest
+class AvailabilityEngineEquivalenceTest {
+
+    // 인메모리 인덱스는 오늘 - 7일 ~ 오늘 + horizon-days 구간만 읽으므로 오늘 기준
+    static final Instant BASE = LocalDate.now(ZoneOffset.UTC).plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired DatabaseAvailabilityReader sweep;
+    @Autowired PostgresRangeAvailabilityEngine postgres;
+    @Autowired ReservationIndex index;
+
+    @RepeatedTest(5)
+    void engines_produce_identical_output() {
+        long seed = Long.getLong("equivalence.seed", new Random().nextLong());
+        Random rnd = new Random(seed);
+        seed(rnd);
+        index.warmUp();
+
+        List<AvailabilityFilter> filters = List.of(
+                AvailabilityFilter.NONE,
+                new AvailabilityFilter("2F", 3, null, null, null),
+                new AvailabilityFilter(null, null, 90, LocalTime.of(8, 30), LocalTime.of(19, 0))
+        );
+        for (int d = 0; d < 3; d++) {
+            LocalDate date = LocalDate.ofInstant(BASE, ZoneOffset.UTC).plusDays(d);
+            for (AvailabilityFilter filter : filters) {
+                List<RoomAvailabilityResponse> expected = sweep.availability(date, filter);
+                String context = "seed=%d, date=%s, filter=%s".formatted(seed, date, filter);
+                assertThat(postgres.availability(date, filter)).as("postgres, " + context).isEqualTo(expected);
+                assertThat(index.covers(date, date)).as(context).isTrue();
+                assertThat(index.availability(date, filter)).as("index, " + context).isEqualTo(expected);
+            }
+        }
+    }
+
+    private void seed(Random rnd) {
+        jdbc.update("DELETE FROM reservations");
+        jdbc.update("DELETE FROM rooms");
+        int roomCount = 1 + rnd.nextInt(8);
+        for (int i = 0; i < roomCount; i++) {
+            jdbc.update("INSERT INTO rooms(name, location, capacity) VALUES (?, ?, ?)", "R" + i, (1 + i % 3) + "F", 1 + rnd.nextInt(10));
+        }
+        List<Object[]> rows = new ArrayList<>();
+        for (Long roomId : jdbc.queryForList("SELECT id FROM rooms", Long.class)) {
+            // 방마다 겹치지 않는 구간을 생성: 인접(간격 0), 자정 걸침, 초 단위 경계 포함
+            Instant cursor = BASE.minus(Duration.ofHours(rnd.nextInt(6)));
+            Instant end = BASE.plus(Duration.ofDays(3)).plus(Duration.ofHours(6));
+            while (cursor.isBefore(end)) {
+                Instant s = cursor.plusSeconds(rnd.nextInt(4) == 0 ? 0 : rnd.nextInt(4 * 3600));
+                Instant e = s.plusSeconds(60 + rnd.nextInt(6 * 3600));
+                rows.add(new Object[]{roomId, 1L + rnd.nextInt(20), Timestamp.from(s), Timestamp.from(e)});
+                cursor = e;
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO reservations(room_id, user_id, start_at, end_at) VALUES (?, ?, ?, ?)", rows);
+    }
+}
@@ -0,0 +1,114 @@
+package com.synclife.studyroom.reservation;
+
+import com.synclife.studyroom.reservation.domain.Reservation;
+import com.synclife.studyroom.reservation.domain.ReservationRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 엔티티 로딩 vs 프로젝션 조회 비교 (하루 10,000건).
+ * docker-compose Postgres 필요. ./gradlew benchmark 로 실행.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class AvailabilityQueryBenchmarkTest {
+
+    static final int ROOMS = 100;
+    static final int PER_ROOM = 100;   // 10분 간격 → 하루 100건/방, 총 10,000건
+    static final int WARMUP = 5;
+    static final int RUNS = 20;
+
+    static final Instant DAY_START = Instant.parse("2025-09-26T00:00:00Z");
+    static final Instant DAY_END   = Instant.parse("2025-09-27T00:00:00Z");
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired ReservationRepository reservations;
+    @Autowired EntityManager em;
+    @Autowired PlatformTransactionManager txManager;
+
+    @BeforeEach
+    void seed() {
+        jdbc.update("DELETE FROM reservations");
+        jdbc.update("DELETE FROM rooms");
+        for (int i = 0; i < ROOMS; i++) {
+            jdbc.update("INSERT INTO rooms(name, location, capacity) VALUES (?, '1F', 4)", "R" + i);
+        }
+        List<Long> roomIds = jdbc.queryForList("SELECT id FROM rooms", Long.class);
+        List<Object[]> rows = new ArrayList<>();
+        for (Long roomId : roomIds) {
+            for (int k = 0; k < PER_ROOM; k++) {
+                Instant s = DAY_START.plus(Duration.ofMinutes(10L * k));
+                rows.add(new Object[]{roomId, 7L, Timestamp.from(s), Timestamp.from(s.plus(Duration.ofMinutes(10)))});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO reservations(room_id, user_id, start_at, end_at) VALUES (?, ?, ?, ?)", rows);
+    }
+
+    @Test
+    void projection_vs_entity_loading() {
+        TransactionTemplate tx = new TransactionTemplate(txManager);
+        tx.setReadOnly(true);
+
+        Result entity = measure("entity", () -> tx.execute(s -> {
+            List<Reservation> list = em.createQuery("""
+                    select r from Reservation r
+                    where r.startAt < :end and r.endAt > :start
+                    order by r.room.id asc, r.startAt asc
+                    """, Reservation.class)
+                    .setParameter("start", DAY_START).setParameter("end", DAY_END)
+                    .getResultList();
+            long sum = 0;
+            for (Reservation r : list) sum += r.getRoom().getId();
+            return sum;
+        }));
+        Result projection = measure("projection", () -> tx.execute(s -> {
+            long sum = 0;
+            for (var r : reservations.findAllOverlapping(DAY_START, DAY_END)) sum += r.roomId();
+            return sum;
+        }));
+
+        System.out.println(entity);
+        System.out.println(projection);
+        assertThat(projection.bytesPerOp()).isLessThan(entity.bytesPerOp());
+    }
+
+    private Result measure(String name, Supplier<Long> op) {
+        var mx = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().getId();
+        for (int i = 0; i < WARMUP; i++) op.get();
+
+        long[] nanos = new long[RUNS];
+        long allocBefore = mx.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < RUNS; i++) {
+            long t0 = System.nanoTime();
+            op.get();
+            nanos[i] = System.nanoTime() - t0;
+        }
+        long alloc = mx.getThreadAllocatedBytes(tid) - allocBefore;
+        java.util.Arrays.sort(nanos);
+        return new Result(name, nanos[RUNS / 2] / 1_000_000.0, nanos[RUNS - 1] / 1_000_000.0, alloc / RUNS);
+    }
+
+    record Result(String name, double p50Millis, double maxMillis, long bytesPerOp) {
+        @Override public String toString() {
+            return "%-10s p50=%.2fms max=%.2fms alloc=%,d B/op".formatted(name, p50Millis, maxMillis, bytesPerOp);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.synclife.studyroom.reservation;
+
+import com.synclife.studyroom.reservation.domain.Reservation;
+import com.synclife.studyroom.reservation.domain.ReservationRepository;
+import com.synclife.studyroom.room.domain.Room;
+import com.synclife.studyroom.room.domain.RoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 INSERT 처리량 비교.
+ * - per-row : 엔티티마다 flush → IDENTITY 시절과 같은 "행마다 INSERT 1회 왕복"
+ * - batched : pooled 시퀀스 + hibernate.jdbc.batch_size → 한 번의 flush에 배치 INSERT
+ * docker-compose Postgres 필요. ./gradlew benchmark 로 실행.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class BulkInsertBenchmarkTest {
+
+    static final int N = 5_000;
+    static final Instant BASE = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired RoomRepository rooms;
+    @Autowired ReservationRepository reservations;
+    @Autowired PlatformTransactionManager txManager;
+
+    Room room;
+
+    @BeforeEach
+    void reset() {
+        jdbc.update("DELETE FROM reservations");
+        jdbc.update("DELETE FROM rooms");
+        room = rooms.save(new Room("A", "1F", 4));
+    }
+
+    @Test
+    void batched_inserts_outperform_per_row_round_trips() {
+        TransactionTemplate tx = new TransactionTemplate(txManager);
+
+        double perRow = throughput(() -> tx.executeWithoutResult(s -> {
+            for (Reservation r : batch(0)) reservations.saveAndFlush(r);
+        }));
+        double batched = throughput(() -> tx.executeWithoutResult(s -> reservations.saveAll(batch(N))));
+
+        System.out.printf("per-row : %,.0f rows/s%n", perRow);
+        System.out.printf("batched : %,.0f rows/s%n", batched);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM reservations", Integer.class)).isEqualTo(2 * N);
+        assertThat(batched).isGreaterThan(perRow);
+    }
+
+    private List<Reservation> batch(int offset) {
+        List<Reservation> list = new ArrayList<>(N);
+        for (int i = 0; i < N; i++) {
+            Instant s = BASE.plus(Duration.ofMinutes(10L * (offset + i)));
+            list.add(new Reservation(room, 7L, s, s.plus(Duration.ofMinutes(10))));
+        }
+        return list;
+    }
+
+    private static double throughput(Runnable op) {
+        long t0 = System.nanoTime();
+        op.run();
+        return N / ((System.nanoTime() - t0) / 1e9);
+    }
+}
@@ -0,0 +1,125 @@
+package com.synclife.studyroom.reservation;
+
+import com.synclife.studyroom.StudyroomApplication;
+import com.synclife.studyroom.auth.AuthContext;
+import com.synclife.studyroom.auth.Role;
+import com.synclife.studyroom.reservation.application.ReservationService;
+import com.synclife.studyroom.reservation.dto.CreateReservationRequest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 방/슬롯에 여러 클라이언트가 몰리는 경합 생성 (ConcurrencyReservationTest의 확대판).
+ * 슬롯마다 CONTENDERS명이 동시에 노리므로 슬롯 수만큼만 성공해야 한다.
+ * 쓰기 모드(direct / queued)는 시작 시 정해지므로 모드마다 컨텍스트를 새로 띄워 같은 시나리오를 돌리고,
+ * 처리량·p99와 DB 롤백 수(실패한 INSERT 트랜잭션)를 출력한다.
+ * docker-compose Postgres 필요. ./gradlew benchmark 로 실행.
+ */
+@Tag("benchmark")
+class ContendedCreateBenchmarkTest {
+
+    static final int ROOMS = 10;
+    static final int SLOTS_PER_ROOM = 20;
+    static final int CONTENDERS = 10;
+    static final int CLIENTS = ROOMS * SLOTS_PER_ROOM * CONTENDERS;
+    static final Instant BASE = Instant.parse("2026-04-01T08:00:00Z");
+
+    JdbcTemplate jdbc;
+    ReservationService reservationService;
+    List<Long> roomIds;
+
+    /** direct: 요청 스레드에서 바로 INSERT (사전 겹침 검사 포함), queued: 방별 단일 작성자 큐 + group commit */
+    @ParameterizedTest(name = "write-mode={0}")
+    @ValueSource(strings = {"direct", "queued"})
+    void contended_creates(String mode) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(StudyroomApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("studyroom.reservation.write-mode=" + mode)
+                .run()) {
+            jdbc = context.getBean(JdbcTemplate.class);
+            reservationService = context.getBean(ReservationService.class);
+            reset();
+            run(mode);
+        }
+    }
+
+    private void reset() {
+        jdbc.update("DELETE FROM reservations");
+        jdbc.update("DELETE FROM rooms");
+        for (int i = 0; i < ROOMS; i++) {
+            jdbc.update("INSERT INTO rooms(name, location, capacity) VALUES (?, '1F', 4)", "R" + i);
+        }
+        roomIds = jdbc.queryForList("SELECT id FROM rooms ORDER BY id", Long.class);
+    }
+
+    private void run(String mode) throws Exception {
+        long rollbacksBefore = rollbacks();
+        long[] latencies = new long[CLIENTS];
+        AtomicInteger created = new AtomicInteger(), conflicts = new AtomicInteger(), others = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        long t0;
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                final int n = i;
+                clients.submit(() -> {
+                    int slot = n / CONTENDERS;
+                    Long roomId = roomIds.get(slot % ROOMS);
+                    Instant s = BASE.plus(Duration.ofMinutes(30L * (slot / ROOMS)));
+                    var req = new CreateReservationRequest(roomId, s, s.plus(Duration.ofMinutes(30)));
+                    start.await();
+                    long t = System.nanoTime();
+                    try {
+                        reservationService.create(req, new AuthContext(Role.USER, n + 1L));
+                        created.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        if ("CONFLICT_OVERLAP".equals(e.getMessage())) conflicts.incrementAndGet();
+                        else others.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        others.incrementAndGet();
+                    } finally {
+                        latencies[n] = System.nanoTime() - t;
+                    }
+                    return null;
+                });
+            }
+            t0 = System.nanoTime();
+            start.countDown();
+        }
+        double seconds = (System.nanoTime() - t0) / 1e9;
+
+        // 통계는 비동기로 반영되므로 잠시 기다린다
+        Thread.sleep(1_000);
+        long rollbacks = rollbacks() - rollbacksBefore;
+
+        Arrays.sort(latencies);
+        System.out.printf("[%s] clients=%d  %,.0f req/s  p50=%.1fms  p99=%.1fms  201=%d 409=%d other=%d  db rollbacks=%d%n",
+                mode, CLIENTS, CLIENTS / seconds,
+                latencies[CLIENTS / 2] / 1e6, latencies[(int) (CLIENTS * 0.99)] / 1e6,
+                created.get(), conflicts.get(), others.get(), rollbacks);
+
+        assertThat(others.get()).isZero();
+        assertThat(created.get()).isEqualTo(ROOMS * SLOTS_PER_ROOM);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM reservations", Integer.class)).isEqualTo(ROOMS * SLOTS_PER_ROOM);
+    }
+
+    private long rollbacks() {
+        jdbc.execute("SELECT pg_stat_clear_snapshot()");
+        return jdbc.queryForObject(
+                "SELECT xact_rollback FROM pg_stat_database WHERE datname = current_database()", Long.class);
+    }
+}
@@ -0,0 +1,12 @@
+package com.synclife.studyroom.reservation;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/** 기본 Tomcat 플랫폼 스레드 풀(최대 200) 기준선 */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadLoadBenchmarkTest extends ReservationLoadBenchmark {
+
+    @Override
+    String mode() { return "platform"; }
+}
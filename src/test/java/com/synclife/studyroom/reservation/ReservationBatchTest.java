@@ -0,0 +1,109 @@
+package com.synclife.studyroom.reservation;
+
+import com.synclife.studyroom.auth.AuthContext;
+import com.synclife.studyroom.auth.Role;
+import com.synclife.studyroom.reservation.application.ReservationService;
+import com.synclife.studyroom.reservation.dto.CreateReservationBatchRequest;
+import com.synclife.studyroom.reservation.dto.CreateReservationRequest;
+import com.synclife.studyroom.reservation.dto.ReservationBatchResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ReservationBatchTest {
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired ReservationService reservationService;
+    @Autowired MeterRegistry registry;
+
+    Long roomId;
+    final AuthContext user = new AuthContext(Role.USER, 7L);
+
+    @BeforeEach
+    void reset() {
+        jdbc.update("DELETE FROM reservations");
+        jdbc.update("DELETE FROM rooms");
+        jdbc.update("INSERT INTO rooms(name, location, capacity) VALUES ('A','1F',4)");
+        roomId = jdbc.queryForObject("SELECT id FROM rooms LIMIT 1", Long.class);
+    }
+
+    @Test
+    void per_item_results() {
+        var res = reservationService.createBatch(new CreateReservationBatchRequest(List.of(
+                item(roomId, "2025-09-30T09:00:00Z", "2025-09-30T10:00:00Z"),
+                item(roomId, "2025-10-07T09:00:00Z", "2025-10-07T10:00:00Z"),
+                item(roomId, "2025-09-30T09:30:00Z", "2025-09-30T10:30:00Z"),   // 0번과 겹침
+                item(roomId + 999, "2025-09-30T09:00:00Z", "2025-09-30T10:00:00Z"),
+                item(roomId, "2025-09-30T12:00:00Z", "2025-09-30T11:00:00Z")
+        ), false), user);
+
+        assertThat(res.results()).extracting(ReservationBatchResponse.Item::status)
+                .containsExactly(201, 201, 409, 404, 400);
+        assertThat(res.results().get(2).error().code()).isEqualTo("OVERLAP");
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM reservations", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    void atomic_rolls_back_on_overlap() {
+        var req = new CreateReservationBatchRequest(List.of(
+                item(roomId, "2025-09-30T09:00:00Z", "2025-09-30T10:00:00Z"),
+                item(roomId, "2025-09-30T09:30:00Z", "2025-09-30T10:30:00Z")
+        ), true);
+
+        assertThatThrownBy(() -> reservationService.createBatch(req, user))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("CONFLICT_OVERLAP");
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM reservations", Integer.class)).isZero();
+    }
+
+    @Test
+    void item_outcomes_are_counted() {
+        double created = items("created"), overlap = items("overlap"), notFound = items("not_found"), invalid = items("invalid");
+
+        reservationService.createBatch(new CreateReservationBatchRequest(List.of(
+                item(roomId, "2025-09-30T09:00:00Z", "2025-09-30T10:00:00Z"),
+                item(roomId, "2025-09-30T09:30:00Z", "2025-09-30T10:30:00Z"),
+                item(roomId + 999, "2025-09-30T09:00:00Z", "2025-09-30T10:00:00Z"),
+                item(roomId, "2025-09-30T12:00:00Z", "2025-09-30T11:00:00Z")
+        ), false), user);
+
+        assertThat(items("created") - created).isEqualTo(1);
+        assertThat(items("overlap") - overlap).isEqualTo(1);
+        assertThat(items("not_found") - notFound).isEqualTo(1);
+        assertThat(items("invalid") - invalid).isEqualTo(1);
+    }
+
+    @Test
+    void atomic_rollback_counts_every_item_as_rolled_back() {
+        double rolledBack = items("rolled_back"), created = items("created");
+        double batches = registry.timer("studyroom.reservation.create.batch", "outcome", "overlap").count();
+
+        assertThatThrownBy(() -> reservationService.createBatch(new CreateReservationBatchRequest(List.of(
+                item(roomId, "2025-09-30T09:00:00Z", "2025-09-30T10:00:00Z"),
+                item(roomId, "2025-09-30T10:00:00Z", "2025-09-30T11:00:00Z"),
+                item(roomId, "2025-09-30T09:30:00Z", "2025-09-30T10:30:00Z")
+        ), true), user)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(items("rolled_back") - rolledBack).isEqualTo(3);
+        assertThat(items("created") - created).isZero();
+        assertThat(registry.timer("studyroom.reservation.create.batch", "outcome", "overlap").count() - batches).isEqualTo(1);
+    }
+
+    private double items(String outcome) {
+        return registry.counter("studyroom.reservation.batch.items", "outcome", outcome).count();
+    }
+
+    private static CreateReservationRequest item(Long roomId, String start, String end) {
+        return new CreateReservationRequest(roomId, Instant.parse(start), Instant.parse(end));
+    }
+}
@@ -0,0 +1,49 @@
+package com.synclife.studyroom.reservation;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * POST /reservations: 방을 미리 SELECT 하지 않으므로 없는 방은 INSERT의 FK 위반(23503)으로 판정된다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReservationCreateTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired JdbcTemplate jdbc;
+
+    @Test
+    void unknown_room_is_404_and_writes_nothing() throws Exception {
+        long missingRoomId = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) + 1000 FROM rooms", Long.class);
+        int before = count();
+
+        mvc.perform(post("/reservations")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer user-token-7")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"roomId":%d,"startAt":"2025-12-01T09:00:00Z","endAt":"2025-12-01T10:00:00Z"}"""
+                                .formatted(missingRoomId)))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("NOT_FOUND"));
+
+        assertThat(count()).isEqualTo(before);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM reservations WHERE room_id = ?", Integer.class, missingRoomId))
+                .isZero();
+    }
+
+    private int count() {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM reservations", Integer.class);
+    }
+}
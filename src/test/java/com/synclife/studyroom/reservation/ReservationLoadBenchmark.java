@@ -0,0 +1,116 @@
+package com.synclife.studyroom.reservation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ConcurrencyReservationTest와 같은 구조(래치로 동시 출발)를 HTTP로, 수천 클라이언트 규모로 돌린다.
+ * 방마다 같은 슬롯을 두 클라이언트가 노리므로 절반은 201, 절반은 409가 되어야 한다.
+ * 하위 클래스가 스레드 모드(플랫폼/가상)만 바꾸고, 처리량과 p99 지연을 출력한다.
+ * docker-compose Postgres 필요. ./gradlew benchmark 로 실행.
+ */
+@Tag("benchmark")
+abstract class ReservationLoadBenchmark {
+
+    static final int CLIENTS = 4_000;
+    static final int ROOMS = 100;
+    static final Instant BASE = Instant.parse("2026-03-02T00:00:00Z");
+
+    @Autowired JdbcTemplate jdbc;
+    @LocalServerPort int port;
+
+    List<Long> roomIds;
+
+    abstract String mode();
+
+    @BeforeEach
+    void reset() {
+        jdbc.update("DELETE FROM reservations");
+        jdbc.update("DELETE FROM rooms");
+        for (int i = 0; i < ROOMS; i++) {
+            jdbc.update("INSERT INTO rooms(name, location, capacity) VALUES (?, '1F', 4)", "R" + i);
+        }
+        roomIds = jdbc.queryForList("SELECT id FROM rooms ORDER BY id", Long.class);
+    }
+
+    @Test
+    void create_under_thousands_of_concurrent_clients() throws Exception {
+        HttpClient http = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        long[] latencies = new long[CLIENTS];
+        AtomicInteger created = new AtomicInteger(), conflicts = new AtomicInteger(), others = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(CLIENTS);
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                final int n = i;
+                clients.submit(() -> {
+                    try {
+                        start.await();
+                        long t0 = System.nanoTime();
+                        int status = http.send(request(n), HttpResponse.BodyHandlers.discarding()).statusCode();
+                        latencies[n] = System.nanoTime() - t0;
+                        if (status == 201) created.incrementAndGet();
+                        else if (status == 409) conflicts.incrementAndGet();
+                        else others.incrementAndGet();
+                    } catch (Exception e) {
+                        others.incrementAndGet();
+                    } finally {
+                        done.countDown();
+                    }
+                    return null;
+                });
+            }
+            long t0 = System.nanoTime();
+            start.countDown();
+            assertThat(done.await(5, TimeUnit.MINUTES)).isTrue();
+            double seconds = (System.nanoTime() - t0) / 1e9;
+
+            Arrays.sort(latencies);
+            System.out.printf("[%s] clients=%d  %,.0f req/s  p50=%.1fms  p99=%.1fms  201=%d 409=%d other=%d%n",
+                    mode(), CLIENTS, CLIENTS / seconds,
+                    latencies[CLIENTS / 2] / 1e6, latencies[(int) (CLIENTS * 0.99)] / 1e6,
+                    created.get(), conflicts.get(), others.get());
+        }
+
+        assertThat(others.get()).isZero();
+        assertThat(created.get()).isEqualTo(CLIENTS / 2);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM reservations", Integer.class)).isEqualTo(CLIENTS / 2);
+    }
+
+    // 클라이언트 2k, 2k+1이 같은 방/같은 슬롯을 노린다.
+    private HttpRequest request(int n) {
+        int pair = n / 2;
+        Long roomId = roomIds.get(pair % ROOMS);
+        Instant s = BASE.plus(Duration.ofMinutes(30L * (pair / ROOMS)));
+        String body = """
+                {"roomId":%d,"startAt":"%s","endAt":"%s"}""".formatted(roomId, s, s.plus(Duration.ofMinutes(30)));
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/reservations"))
+                .header("Authorization", "Bearer user-token-" + (n + 1))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(60))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
@@ -0,0 +1,164 @@
+package com.synclife.studyroom.reservation;
+
+import com.synclife.studyroom.auth.AuthContext;
+import com.synclife.studyroom.auth.Role;
+import com.synclife.studyroom.common.OverlapConflictException;
+import com.synclife.studyroom.reservation.application.ReservationPartitions;
+import com.synclife.studyroom.reservation.application.ReservationService;
+import com.synclife.studyroom.reservation.domain.ReservationRepository;
+import com.synclife.studyroom.reservation.domain.ReservationSlot;
+import com.synclife.studyroom.reservation.dto.CreateReservationBatchRequest;
+import com.synclife.studyroom.reservation.dto.CreateReservationRequest;
+import com.synclife.studyroom.reservation.dto.ReservationBatchResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 인메모리 사전 검사를 끄고 DB(파티션 EXCLUDE + 경계 트리거)가 직접 판정하게 한다
+@SpringBootTest(properties = {
+        "studyroom.reservation.overlap-precheck.enabled=false",
+        "studyroom.availability.index.enabled=false"
+})
+class ReservationPartitionTest {
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired ReservationService reservationService;
+    @Autowired ReservationRepository reservations;
+    @Autowired ReservationPartitions partitions;
+
+    Long roomId;
+    final AuthContext user = new AuthContext(Role.USER, 7L);
+
+    @BeforeEach
+    void reset() {
+        jdbc.update("DELETE FROM reservations");
+        jdbc.update("DELETE FROM rooms");
+        jdbc.update("INSERT INTO rooms(name, location, capacity) VALUES ('A','1F',4)");
+        roomId = jdbc.queryForObject("SELECT id FROM rooms LIMIT 1", Long.class);
+        for (int m = 1; m <= 3; m++) partitions.ensure(YearMonth.of(2031, m));
+    }
+
+    @Test
+    void overlaps_across_a_month_boundary_are_rejected_in_both_orders() {
+        // 1월 파티션에 들어가 2월로 넘어가는 예약
+        create("2031-01-31T23:00:00Z", "2031-02-01T02:00:00Z");
+        assertThatThrownBy(() -> create("2031-02-01T01:00:00Z", "2031-02-01T03:00:00Z"))
+                .isInstanceOf(OverlapConflictException.class);
+        create("2031-02-01T02:00:00Z", "2031-02-01T03:00:00Z");   // 경계에 맞닿음은 허용
+
+        // 2월 예약이 먼저 있고 나중에 1월에서 넘어오는 예약
+        create("2031-03-01T01:00:00Z", "2031-03-01T02:00:00Z");
+        assertThatThrownBy(() -> create("2031-02-28T22:00:00Z", "2031-03-01T01:30:00Z"))
+                .isInstanceOf(OverlapConflictException.class);
+
+        assertThat(partitionOf("2031-01-31T23:00:00Z")).isEqualTo("reservations_p2031_01");
+        assertThat(partitionOf("2031-02-01T02:00:00Z")).isEqualTo("reservations_p2031_02");
+    }
+
+    @Test
+    void batch_skips_only_the_cross_partition_conflict() {
+        var res = reservationService.createBatch(new CreateReservationBatchRequest(List.of(
+                item("2031-01-31T23:00:00Z", "2031-02-01T02:00:00Z"),
+                item("2031-02-01T01:00:00Z", "2031-02-01T03:00:00Z"),
+                item("2031-02-01T03:00:00Z", "2031-02-01T04:00:00Z")
+        ), false), user);
+
+        assertThat(res.results()).extracting(ReservationBatchResponse.Item::status).containsExactly(201, 409, 201);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM reservations", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    void rejects_reservations_longer_than_max_duration() {
+        assertThatThrownBy(() -> create("2031-01-10T00:00:00Z", "2031-01-18T00:00:00Z"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> jdbc.update("INSERT INTO reservations(room_id, user_id, start_at, end_at) VALUES (?, 7, ?, ?)",
+                roomId, at("2031-01-10T00:00:00Z"), at("2031-01-18T00:00:00Z")))
+                .hasMessageContaining("chk_max_duration");
+    }
+
+    @Test
+    void availability_query_prunes_to_overlapping_partitions() {
+        create("2031-01-31T23:00:00Z", "2031-02-01T02:00:00Z");
+
+        // 월 중간: 2월 파티션만
+        String mid = plan("2031-02-15T00:00:00Z", "2031-02-16T00:00:00Z");
+        assertThat(mid).contains("reservations_p2031_02")
+                .doesNotContain("reservations_p2031_01", "reservations_p2031_03", "reservations_default");
+
+        // 월초: 전달에서 넘어온 예약이 있을 수 있으므로 1월 + 2월
+        String early = plan("2031-02-01T00:00:00Z", "2031-02-02T00:00:00Z");
+        assertThat(early).contains("reservations_p2031_01", "reservations_p2031_02")
+                .doesNotContain("reservations_p2031_03", "reservations_default");
+
+        List<ReservationSlot> found = reservations.findAllOverlapping(
+                Instant.parse("2031-02-01T00:00:00Z"), Instant.parse("2031-02-02T00:00:00Z"));
+        assertThat(found).extracting(ReservationSlot::startAt).containsExactly(Instant.parse("2031-01-31T23:00:00Z"));
+    }
+
+    @Test
+    void rows_in_default_partition_move_to_a_new_month_partition() {
+        create("2033-05-10T09:00:00Z", "2033-05-10T10:00:00Z");
+        assertThat(partitionOf("2033-05-10T09:00:00Z")).isEqualTo("reservations_default");
+
+        assertThat(partitions.ensure(YearMonth.of(2033, 5))).isTrue();
+        assertThat(partitions.ensure(YearMonth.of(2033, 5))).isFalse();
+        assertThat(partitionOf("2033-05-10T09:00:00Z")).isEqualTo("reservations_p2033_05");
+
+        // 옮겨진 뒤에도 파티션 EXCLUDE로 겹침이 막힌다
+        assertThatThrownBy(() -> create("2033-05-10T09:30:00Z", "2033-05-10T10:30:00Z"))
+                .isInstanceOf(OverlapConflictException.class);
+    }
+
+    @Test
+    void archived_partition_leaves_the_table() {
+        partitions.ensure(YearMonth.of(2034, 1));
+        create("2034-01-10T09:00:00Z", "2034-01-10T10:00:00Z");
+
+        partitions.archive(YearMonth.of(2034, 1));
+        try {
+            assertThat(partitions.months()).doesNotContain(YearMonth.of(2034, 1));
+            assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM reservations", Integer.class)).isZero();
+            assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM reservations_archive.reservations_p2034_01", Integer.class)).isOne();
+        } finally {
+            jdbc.execute("DROP TABLE IF EXISTS reservations_archive.reservations_p2034_01");
+        }
+    }
+
+    // ReservationRepository.findAllOverlapping과 같은 조건의 실행 계획 (바인드 파라미터)
+    private String plan(String start, String end) {
+        OffsetDateTime s = at(start), e = at(end);
+        return String.join("\n", jdbc.queryForList("""
+                EXPLAIN SELECT room_id, id, user_id, start_at, end_at FROM reservations
+                WHERE start_at > ? AND start_at < ? AND end_at > ?
+                ORDER BY room_id, start_at
+                """, String.class, s.minusDays(7), e, s));
+    }
+
+    private String partitionOf(String start) {
+        return jdbc.queryForObject("SELECT tableoid::regclass::text FROM reservations WHERE start_at = ?",
+                String.class, at(start));
+    }
+
+    private void create(String start, String end) {
+        reservationService.create(item(start, end), user);
+    }
+
+    private CreateReservationRequest item(String start, String end) {
+        return new CreateReservationRequest(roomId, Instant.parse(start), Instant.parse(end));
+    }
+
+    private static OffsetDateTime at(String instant) {
+        return Instant.parse(instant).atOffset(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,13 @@
+package com.synclife.studyroom.reservation;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/** application-virtual.properties (가상 스레드 + Hikari 설정) */
+@ActiveProfiles("virtual")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class VirtualThreadLoadBenchmarkTest extends ReservationLoadBenchmark {
+
+    @Override
+    String mode() { return "virtual"; }
+}
@@ -0,0 +1,187 @@
+package com.synclife.studyroom.reservation.application;
+
+import com.synclife.studyroom.reservation.domain.ReservationRepository;
+import com.synclife.studyroom.reservation.domain.ReservationSlot;
+import com.synclife.studyroom.room.domain.Room;
+import com.synclife.studyroom.room.domain.RoomRepository;
+import com.synclife.studyroom.room.dto.AvailabilityFilter;
+import com.synclife.studyroom.room.dto.RoomAvailabilityResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AvailabilityBinaryEncoderTest {
+
+    static final LocalDate DAY = LocalDate.parse("2025-09-26");
+    static final Clock TODAY = Clock.fixed(DAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+
+    ReservationRepository reservations = mock(ReservationRepository.class);
+    RoomRepository rooms = mock(RoomRepository.class);
+    ReservationIndex index;
+    List<Room> roomList;
+
+    @BeforeEach
+    void setUp() {
+        roomList = List.of(room(1L, "A", "1F", 4), room(2L, "B", "3F", 6), room(5L, "C", "1F", 10));
+        when(rooms.findAll()).thenReturn(roomList);
+        when(reservations.findAllOverlapping(any(Instant.class), any(Instant.class))).thenReturn(List.of(
+                slot(1L, 10L, "2025-09-26T09:00:00Z", "2025-09-26T10:00:00Z"),
+                slot(1L, 11L, "2025-09-25T23:00:00Z", "2025-09-26T01:00:00Z"),
+                slot(2L, 12L, "2025-09-26T10:00:00Z", "2025-09-26T17:00:00Z"),
+                slot(5L, 13L, "2025-09-26T23:30:00Z", "2025-09-27T00:30:00Z"),
+                slot(5L, 9L, "2025-09-26T12:00:00Z", "2025-09-26T12:30:00Z")
+        ));
+        index = new ReservationIndex(reservations, rooms, true, 180, TODAY);
+        index.warmUp();
+    }
+
+    @Test
+    void round_trip_matches_json_representation() throws IOException {
+        for (AvailabilityFilter filter : List.of(AvailabilityFilter.NONE,
+                new AvailabilityFilter(null, null, 120, LocalTime.of(9, 0), LocalTime.of(18, 0)),
+                new AvailabilityFilter("1F", 5, null, null, null))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            index.writeBinary(DAY, filter, true, out);
+
+            Decoded decoded = decode(out.toByteArray(), Map.of());
+
+            assertThat(decoded.rooms).isEqualTo(index.availability(DAY, filter));
+            assertThat(decoded.dictionary).hasSize(3);
+        }
+    }
+
+    @Test
+    void dictionary_can_be_omitted_and_reused() throws IOException {
+        ByteArrayOutputStream full = new ByteArrayOutputStream();
+        index.writeBinary(DAY, AvailabilityFilter.NONE, true, full);
+        ByteArrayOutputStream compact = new ByteArrayOutputStream();
+        index.writeBinary(DAY, AvailabilityFilter.NONE, false, compact);
+
+        Decoded first = decode(full.toByteArray(), Map.of());
+        Decoded second = decode(compact.toByteArray(), first.dictionary);
+
+        assertThat(compact.size()).isLessThan(full.size());
+        assertThat(second.rooms).isEqualTo(first.rooms);
+    }
+
+    @Test
+    void database_path_encodes_same_bytes_as_index() throws IOException {
+        AvailabilityFilter filter = new AvailabilityFilter(null, null, 60, LocalTime.of(8, 0), null);
+        ByteArrayOutputStream fromIndex = new ByteArrayOutputStream();
+        index.writeBinary(DAY, filter, true, fromIndex);
+
+        List<RoomAvailabilityResponse> result = new ArrayList<>(index.availability(DAY, filter));
+        Collections.reverse(result);
+        ByteArrayOutputStream fromResponses = new ByteArrayOutputStream();
+        AvailabilityBinaryEncoder.encode(result, roomList, filter.windowStart(DAY), filter.windowEnd(DAY), fromResponses);
+
+        assertThat(fromResponses.toByteArray()).isEqualTo(fromIndex.toByteArray());
+    }
+
+    /** 키오스크 쪽 디코더와 같은 규칙의 최소 구현 */
+    record Decoded(Map<Long, Room> dictionary, List<RoomAvailabilityResponse> rooms) {}
+
+    static Decoded decode(byte[] bytes, Map<Long, Room> known) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        byte[] magic = new byte[4];
+        in.readFully(magic);
+        assertThat(magic).isEqualTo(AvailabilityBinaryEncoder.MAGIC);
+        long windowStart = signed(in);
+        long windowEnd = windowStart + unsigned(in);
+        boolean hasDictionary = (unsigned(in) & AvailabilityBinaryEncoder.FLAG_DICTIONARY) != 0;
+
+        Map<Long, Room> dictionary = new HashMap<>(known);
+        if (hasDictionary) {
+            List<String> locations = new ArrayList<>();
+            long id = 0;
+            for (long delta; (delta = unsigned(in)) != 0; ) {
+                id += delta;
+                String name = string(in);
+                int ref = (int) unsigned(in);
+                String location;
+                if (ref == 0) locations.add(location = string(in));
+                else location = locations.get(ref - 1);
+                dictionary.put(id, room(id, name, location, (int) unsigned(in)));
+            }
+        }
+
+        List<RoomAvailabilityResponse> rooms = new ArrayList<>();
+        long roomId = 0;
+        for (long delta; (delta = unsigned(in)) != 0; ) {
+            roomId += delta;
+            List<RoomAvailabilityResponse.ReservationWindow> windows = new ArrayList<>();
+            long id = 0, prev = windowStart;
+            for (long n = unsigned(in); n > 0; n--) {
+                id += signed(in);
+                long userId = unsigned(in);
+                long start = prev + signed(in), end = start + unsigned(in);
+                windows.add(new RoomAvailabilityResponse.ReservationWindow(id, userId,
+                        Instant.ofEpochSecond(start), Instant.ofEpochSecond(end)));
+                prev = end;
+            }
+            List<RoomAvailabilityResponse.FreeSlot> free = new ArrayList<>();
+            prev = windowStart;
+            for (long n = unsigned(in); n > 0; n--) {
+                long start = prev + unsigned(in), end = start + unsigned(in);
+                free.add(new RoomAvailabilityResponse.FreeSlot(Instant.ofEpochSecond(start), Instant.ofEpochSecond(end)));
+                prev = end;
+            }
+            Room room = dictionary.get(roomId);
+            rooms.add(new RoomAvailabilityResponse(roomId, room.getName(), room.getLocation(), room.getCapacity(), windows, free));
+        }
+        assertThat(in.available()).isZero();
+        assertThat(windowEnd).isGreaterThan(windowStart);
+        return new Decoded(dictionary, rooms);
+    }
+
+    static long unsigned(DataInputStream in) throws IOException {
+        long v = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = in.readUnsignedByte();
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return v;
+        }
+    }
+
+    static long signed(DataInputStream in) throws IOException {
+        long v = unsigned(in);
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    static String string(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[(int) unsigned(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static Room room(Long id, String name, String location, int capacity) {
+        Room room = new Room(name, location, capacity);
+        ReflectionTestUtils.setField(room, "id", id);
+        return room;
+    }
+
+    static ReservationSlot slot(Long roomId, Long id, String start, String end) {
+        return new ReservationSlot(roomId, id, 7L, Instant.parse(start), Instant.parse(end));
+    }
+}
@@ -0,0 +1,94 @@
+package com.synclife.studyroom.reservation.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synclife.studyroom.room.application.RoomCreatedEvent;
+import com.synclife.studyroom.room.dto.AvailabilityFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AvailabilityCacheTest {
+
+    static final LocalDate DAY = LocalDate.parse("2025-09-26");
+    static final LocalDate NEXT = DAY.plusDays(1);
+    static final AvailabilityFilter MORNING = new AvailabilityFilter(null, null, null, LocalTime.of(9, 0), LocalTime.of(12, 0));
+
+    ReservationService reservationService = mock(ReservationService.class);
+    AvailabilityVersions versions = new AvailabilityVersions();
+    AvailabilityCache cache = new AvailabilityCache(reservationService, versions, new ObjectMapper(),
+            new SimpleMeterRegistry(), true, 100, Duration.ofMinutes(5));
+
+    @BeforeEach
+    void setUp() {
+        when(reservationService.availability(any(), any())).thenReturn(List.of());
+    }
+
+    @Test
+    void write_evicts_only_entries_of_touched_date() {
+        AvailabilityVersions.Version day = versions.current(DAY), next = versions.current(NEXT);
+        cache.json(DAY, AvailabilityFilter.NONE, day);
+        cache.json(DAY, MORNING, day);
+        cache.json(NEXT, AvailabilityFilter.NONE, next);
+        clearInvocations(reservationService);
+
+        // 커밋 리스너 순서대로: 버전 → 캐시
+        var event = ReservationChangedEvent.created(1L, 1L, 7L,
+                Instant.parse("2025-09-26T09:00:00Z"), Instant.parse("2025-09-26T10:00:00Z"));
+        versions.on(event);
+        cache.on(event);
+
+        // 이전 버전 키로 물어도 DAY는 (필터와 무관하게) 다시 계산, NEXT는 그대로 적중
+        cache.json(DAY, AvailabilityFilter.NONE, day);
+        cache.json(DAY, MORNING, day);
+        cache.json(NEXT, AvailabilityFilter.NONE, next);
+        verify(reservationService).availability(DAY, AvailabilityFilter.NONE);
+        verify(reservationService).availability(DAY, MORNING);
+        verify(reservationService, never()).availability(NEXT, AvailabilityFilter.NONE);
+    }
+
+    @Test
+    void reservation_across_midnight_evicts_both_dates() {
+        AvailabilityVersions.Version day = versions.current(DAY), next = versions.current(NEXT);
+        cache.json(DAY, AvailabilityFilter.NONE, day);
+        cache.json(NEXT, AvailabilityFilter.NONE, next);
+        clearInvocations(reservationService);
+
+        cache.on(ReservationChangedEvent.cancelled(1L, 1L, 7L,
+                Instant.parse("2025-09-26T23:00:00Z"), Instant.parse("2025-09-27T01:00:00Z")));
+
+        cache.json(DAY, AvailabilityFilter.NONE, day);
+        cache.json(NEXT, AvailabilityFilter.NONE, next);
+        verify(reservationService, times(2)).availability(any(), any());
+    }
+
+    @Test
+    void room_change_invalidates_every_date() {
+        AvailabilityVersions.Version day = versions.current(DAY), next = versions.current(NEXT);
+        cache.json(DAY, MORNING, day);
+        cache.json(NEXT, AvailabilityFilter.NONE, next);
+        clearInvocations(reservationService);
+
+        var event = new RoomCreatedEvent(2L, "B", "2F", 6);
+        versions.on(event);
+        cache.on(event);
+
+        cache.json(DAY, MORNING, day);
+        cache.json(NEXT, AvailabilityFilter.NONE, next);
+        verify(reservationService).availability(DAY, MORNING);
+        verify(reservationService).availability(NEXT, AvailabilityFilter.NONE);
+    }
+}
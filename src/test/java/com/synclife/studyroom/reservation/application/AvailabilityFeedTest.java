@@ -0,0 +1,241 @@
+package com.synclife.studyroom.reservation.application;
+
+import com.synclife.studyroom.common.GlobalExceptionHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AvailabilityFeedTest {
+
+    static final LocalDate DAY = LocalDate.parse("2025-09-26");
+
+    ReservationService reservationService = mock(ReservationService.class);
+    List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    AvailabilityFeed feed;
+
+    @AfterEach
+    void shutdown() {
+        emitters.forEach(RecordingEmitter::release);
+        if (feed != null) feed.shutdown();
+    }
+
+    @Test
+    void recomputes_free_slots_off_the_commit_thread_only_for_subscribed_dates() {
+        feed = feed(16, 10, 100);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        when(reservationService.roomAvailability(any(), any())).thenAnswer(inv -> {
+            threads.add(Thread.currentThread().getName());
+            return Optional.empty();
+        });
+
+        created(1L, DAY);
+        verify(reservationService, never()).roomAvailability(any(), any());
+
+        RecordingEmitter emitter = subscribe(DAY, null);
+        created(2L, DAY);
+
+        await().until(() -> emitter.names().size() == 1);
+        assertThat(emitter.names()).containsExactly("change");
+        assertThat(threads).containsExactly("availability-feed");
+    }
+
+    @Test
+    void resumes_after_last_event_id() {
+        feed = feed(16, 10, 100);
+        RecordingEmitter first = subscribe(DAY, null);
+        subscribe(DAY.plusDays(1), null);
+        created(1L, DAY);
+        created(2L, DAY.plusDays(1));
+        created(3L, DAY);
+        await().until(() -> first.ids().size() == 2);
+
+        RecordingEmitter resumed = subscribe(DAY, first.ids().get(0));
+
+        // 그 날짜의 놓친 변경만, 원래 id 그대로
+        await().until(() -> resumed.ids().size() == 1);
+        assertThat(resumed.names()).containsExactly("change");
+        assertThat(resumed.ids()).containsExactly(first.ids().get(1));
+    }
+
+    @Test
+    void resets_when_history_no_longer_covers_last_event_id() {
+        feed = feed(16, 10, 2);
+        RecordingEmitter first = subscribe(DAY, null);
+        for (long id = 1; id <= 4; id++) created(id, DAY);
+        await().until(() -> first.ids().size() == 4);
+
+        RecordingEmitter resumed = subscribe(DAY, first.ids().get(0));
+
+        await().until(() -> resumed.names().size() == 1);
+        assertThat(resumed.names()).containsExactly("reset");
+        assertThat(resumed.ids()).containsExactly(first.ids().get(3));
+    }
+
+    @Test
+    void resets_when_changes_were_skipped_for_an_unsubscribed_date() {
+        feed = feed(16, 10, 100);
+        RecordingEmitter other = subscribe(DAY, null);
+        created(1L, DAY);
+        await().until(() -> other.ids().size() == 1);
+
+        // 다음 날은 구독자가 없어 내용 없이 gap으로만 남는다
+        created(2L, DAY.plusDays(1));
+        RecordingEmitter resumed = subscribe(DAY.plusDays(1), other.ids().get(0));
+
+        await().until(() -> resumed.names().size() == 1);
+        assertThat(resumed.names()).containsExactly("reset");
+    }
+
+    @Test
+    void subscriber_joining_while_last_one_leaves_still_receives_changes() throws InterruptedException {
+        feed = feed(16, 10_000, 100);
+        for (int i = 0; i < 300; i++) {
+            LocalDate date = DAY.plusDays(i);
+            RecordingEmitter leaving = subscribe(date, null);
+            CountDownLatch start = new CountDownLatch(1);
+            Thread disconnect = Thread.ofPlatform().start(() -> {
+                awaitLatch(start);
+                leaving.disconnect();
+            });
+
+            start.countDown();
+            RecordingEmitter joining = subscribe(date, null);
+            disconnect.join();
+            created((long) i, date);
+
+            // 마지막 구독자가 빠지며 지운 집합에 들어갔다면 이 날짜는 구독자 없음(gap)으로 처리된다
+            await().until(() -> joining.names().size() == 1);
+        }
+        assertThat(feed.subscriberCount()).isEqualTo(300);
+    }
+
+    @Test
+    void evicts_subscriber_whose_queue_is_full() {
+        feed = feed(1, 10, 100);
+        RecordingEmitter slow = subscribe(DAY, null);
+        slow.block();
+
+        created(1L, DAY);
+        await().until(() -> slow.sending);   // 첫 건은 전송 중에 멈춰 있다
+        created(2L, DAY);                     // 큐 1칸을 채운다
+        created(3L, DAY);                     // 넘침 → 연결 종료
+
+        await().until(() -> slow.completed);
+        assertThat(feed.subscriberCount()).isZero();
+    }
+
+    @Test
+    void rejects_subscribers_over_the_cap_with_503() {
+        feed = feed(16, 1, 100);
+        subscribe(DAY, null);
+
+        assertThatThrownBy(() -> feed.subscribe(DAY, null))
+                .isInstanceOfSatisfying(IllegalStateException.class, e ->
+                        assertThat(new GlobalExceptionHandler().conflict(e).getStatusCode().value()).isEqualTo(503));
+        assertThat(feed.subscriberCount()).isEqualTo(1);
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private AvailabilityFeed feed(int queueCapacity, int maxSubscribers, int historySize) {
+        return new AvailabilityFeed(reservationService, Duration.ofMinutes(1), queueCapacity, maxSubscribers, historySize) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private RecordingEmitter subscribe(LocalDate date, Long lastEventId) {
+        return (RecordingEmitter) feed.subscribe(date, lastEventId);
+    }
+
+    private void created(Long id, LocalDate date) {
+        Instant start = date.atTime(9, 0).toInstant(ZoneOffset.UTC);
+        feed.on(ReservationChangedEvent.created(id, 1L, 7L, start, start.plus(Duration.ofHours(1))));
+    }
+
+    /**
+     * 보낸 이벤트의 name/id를 기록한다. block() 이후에는 release()까지 send가 멈춘다.
+     * disconnect()는 클라이언트 연결 종료처럼 등록된 onCompletion 콜백을 실행한다
+     */
+    static final class RecordingEmitter extends SseEmitter {
+        private static final Pattern EVENT = Pattern.compile("event:(\\w+)\\nid:(\\d+)");
+
+        private final List<String> names = new CopyOnWriteArrayList<>();
+        private final List<Long> ids = new CopyOnWriteArrayList<>();
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private volatile boolean blocking;
+        private volatile Runnable onCompletion = () -> {};
+        volatile boolean sending;
+        volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(d -> { if (d.getData() instanceof String s) text.append(s); });
+            Matcher m = EVENT.matcher(text);
+            if (!m.find()) return;   // heartbeat
+            sending = true;
+            if (blocking) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            names.add(m.group(1));
+            ids.add(Long.parseLong(m.group(2)));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            onCompletion = callback;
+        }
+
+        void disconnect() { onCompletion.run(); }
+
+        void block() { blocking = true; }
+
+        void release() { gate.countDown(); }
+
+        List<String> names() { return names; }
+
+        List<Long> ids() { return ids; }
+    }
+}
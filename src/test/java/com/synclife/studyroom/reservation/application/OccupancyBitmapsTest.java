@@ -0,0 +1,186 @@
+package com.synclife.studyroom.reservation.application;
+
+import com.synclife.studyroom.common.StudyroomMetrics;
+import com.synclife.studyroom.reservation.domain.ReservationRepository;
+import com.synclife.studyroom.reservation.domain.ReservationSlot;
+import com.synclife.studyroom.room.domain.Room;
+import com.synclife.studyroom.room.domain.RoomRepository;
+import com.synclife.studyroom.room.dto.AvailabilityFilter;
+import com.synclife.studyroom.room.dto.RoomResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.Order;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OccupancyBitmapsTest {
+
+    static final LocalDate DAY = LocalDate.parse("2025-09-26");
+    static final Clock TODAY = Clock.fixed(DAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+
+    ReservationRepository reservations = mock(ReservationRepository.class);
+    RoomRepository rooms = mock(RoomRepository.class);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    AvailabilityVersions versions = new AvailabilityVersions();
+    ReservationIndex index;
+    OccupancyBitmaps bitmaps;
+
+    @BeforeEach
+    void setUp() {
+        when(rooms.findAll()).thenReturn(List.of(room(1L, "A", "1F", 4), room(2L, "B", "3F", 6), room(3L, "C", "3F", 8)));
+        when(reservations.findAllOverlapping(any(Instant.class), any(Instant.class))).thenReturn(List.of(
+                slot(1L, 10L, "2025-09-26T14:30:00Z", "2025-09-26T15:00:00Z"),
+                slot(2L, 11L, "2025-09-26T13:58:00Z", "2025-09-26T14:01:00Z"),
+                slot(3L, 12L, "2025-09-25T22:00:00Z", "2025-09-26T02:00:00Z")
+        ));
+        index = new ReservationIndex(reservations, rooms, true, 180, TODAY);
+        index.warmUp();
+        bitmaps = new OccupancyBitmaps(index, reservations, versions,
+                new StudyroomMetrics(registry), true, Duration.ofMinutes(5), 62);
+    }
+
+    @Test
+    void aligned_window_is_answered_from_bits() {
+        assertThat(ids(window(14, 0, 16, 0))).containsExactly(3L);
+        assertThat(ids(window(0, 0, 3, 0))).containsExactly(1L, 2L);
+        assertThat(ids(new AvailabilityFilter("3F", null, null, LocalTime.of(16, 0), LocalTime.of(18, 0)))).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void partial_boundary_bucket_is_checked_against_exact_intervals() {
+        // 방 2는 14:00~14:05 칸이 1이지만 실제 예약은 14:01에 끝난다
+        assertThat(ids(window(14, 2, 14, 29))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(window(14, 0, 14, 29))).containsExactly(1L, 3L);
+        assertThat(ids(window(14, 29, 14, 31))).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void commit_events_update_built_days() {
+        assertThat(ids(window(16, 0, 17, 0))).containsExactly(1L, 2L, 3L);
+
+        created(13L, 1L, "2025-09-26T16:00:00Z", "2025-09-26T16:02:00Z");
+        created(14L, 1L, "2025-09-26T16:03:00Z", "2025-09-26T16:30:00Z");
+        assertThat(ids(window(16, 0, 17, 0))).containsExactly(2L, 3L);
+
+        // 16:00~16:05 칸을 함께 쓰던 예약 하나만 취소 → 칸은 계속 점유
+        cancelled(13L, 1L, "2025-09-26T16:00:00Z", "2025-09-26T16:02:00Z");
+        assertThat(ids(window(16, 0, 16, 5))).containsExactly(2L, 3L);
+
+        cancelled(14L, 1L, "2025-09-26T16:03:00Z", "2025-09-26T16:30:00Z");
+        assertThat(ids(window(16, 0, 17, 0))).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void reconcile_replaces_drifted_day_from_reservations() {
+        assertThat(ids(window(9, 0, 10, 0))).containsExactly(1L, 2L, 3L);
+        // 이벤트 없이 DB에만 들어간 예약 (다른 노드, 수동 수정 등)
+        when(reservations.findAllOverlapping(any(Instant.class), any(Instant.class))).thenReturn(List.of(
+                slot(1L, 10L, "2025-09-26T14:30:00Z", "2025-09-26T15:00:00Z"),
+                slot(2L, 11L, "2025-09-26T13:58:00Z", "2025-09-26T14:01:00Z"),
+                slot(2L, 20L, "2025-09-26T09:00:00Z", "2025-09-26T10:00:00Z"),
+                slot(3L, 12L, "2025-09-25T22:00:00Z", "2025-09-26T02:00:00Z")
+        ));
+
+        bitmaps.reconcile();
+
+        assertThat(ids(window(9, 0, 10, 0))).containsExactly(1L, 3L);
+        assertThat(registry.counter("studyroom.availability.bitmap.drift").count()).isEqualTo(1);
+
+        bitmaps.reconcile();
+        assertThat(registry.counter("studyroom.availability.bitmap.drift").count()).isEqualTo(1);
+    }
+
+    @Test
+    void reconcile_keeps_commit_that_lands_after_its_snapshot() {
+        assertThat(ids(window(9, 0, 10, 0))).containsExactly(1L, 2L, 3L);
+        // DB 스냅숏을 읽은 직후 커밋이 끝나 리스너가 돈다 → 스냅숏에는 그 예약이 없다
+        when(reservations.findAllOverlapping(any(Instant.class), any(Instant.class))).thenAnswer(inv -> {
+            List<ReservationSlot> snapshot = List.of(
+                    slot(1L, 10L, "2025-09-26T14:30:00Z", "2025-09-26T15:00:00Z"),
+                    slot(2L, 11L, "2025-09-26T13:58:00Z", "2025-09-26T14:01:00Z"),
+                    slot(3L, 12L, "2025-09-25T22:00:00Z", "2025-09-26T02:00:00Z"));
+            created(20L, 2L, "2025-09-26T09:00:00Z", "2025-09-26T10:00:00Z");
+            return snapshot;
+        });
+
+        bitmaps.reconcile();
+
+        assertThat(ids(window(9, 0, 10, 0))).containsExactly(1L, 3L);
+        assertThat(registry.counter("studyroom.availability.bitmap.drift").count()).isZero();
+    }
+
+    @Test
+    void versions_listener_runs_before_bitmaps() throws NoSuchMethodException {
+        int index = order(ReservationIndex.class), versions = order(AvailabilityVersions.class);
+        assertThat(index).isLessThan(versions);
+        assertThat(versions).isLessThan(order(OccupancyBitmaps.class));
+    }
+
+    @Test
+    void bucket_must_divide_day() {
+        assertThatThrownBy(() -> new OccupancyBitmaps(index, reservations, new AvailabilityVersions(),
+                new StudyroomMetrics(registry), true, Duration.ofMinutes(7), 62))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void set_range_spans_words() {
+        long[] bits = new long[5];
+        OccupancyBitmaps.setRange(bits, 60, 130);
+        assertThat(bits[0]).isEqualTo(0xFL << 60);
+        assertThat(bits[1]).isEqualTo(-1L);
+        assertThat(bits[2]).isEqualTo(0x3L);
+        assertThat(bits[3]).isZero();
+    }
+
+    private List<Long> ids(AvailabilityFilter filter) {
+        return bitmaps.freeRooms(DAY, filter).stream().map(RoomResponse::id).toList();
+    }
+
+    private static AvailabilityFilter window(int fromHour, int fromMinute, int toHour, int toMinute) {
+        return new AvailabilityFilter(null, null, null, LocalTime.of(fromHour, fromMinute), LocalTime.of(toHour, toMinute));
+    }
+
+    /** 커밋 리스너 순서대로: 인덱스 → 버전 → 비트맵 */
+    private void created(Long id, Long roomId, String start, String end) {
+        publish(ReservationChangedEvent.created(id, roomId, 7L, Instant.parse(start), Instant.parse(end)));
+    }
+
+    private void cancelled(Long id, Long roomId, String start, String end) {
+        publish(ReservationChangedEvent.cancelled(id, roomId, 7L, Instant.parse(start), Instant.parse(end)));
+    }
+
+    private void publish(ReservationChangedEvent event) {
+        index.on(event);
+        versions.on(event);
+        bitmaps.on(event);
+    }
+
+    private static int order(Class<?> listener) throws NoSuchMethodException {
+        return listener.getMethod("on", ReservationChangedEvent.class).getAnnotation(Order.class).value();
+    }
+
+    static Room room(Long id, String name, String location, int capacity) {
+        Room room = new Room(name, location, capacity);
+        ReflectionTestUtils.setField(room, "id", id);
+        return room;
+    }
+
+    static ReservationSlot slot(Long roomId, Long id, String start, String end) {
+        return new ReservationSlot(roomId, id, 7L, Instant.parse(start), Instant.parse(end));
+    }
+}
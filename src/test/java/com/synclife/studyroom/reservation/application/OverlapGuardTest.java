@@ -0,0 +1,89 @@
+package com.synclife.studyroom.reservation.application;
+
+import com.synclife.studyroom.common.StudyroomMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OverlapGuardTest {
+
+    static final Instant NINE = Instant.parse("2025-09-26T09:00:00Z");
+    static final Instant TEN  = Instant.parse("2025-09-26T10:00:00Z");
+    static final Instant ELEVEN = Instant.parse("2025-09-26T11:00:00Z");
+
+    ReservationIndex index = mock(ReservationIndex.class);
+    OverlapGuard guard = new OverlapGuard(index, new StudyroomMetrics(new SimpleMeterRegistry()), true, false);
+
+    @BeforeEach
+    void begin() {
+        when(index.isReady()).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void end() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void rejects_overlap_with_committed_reservation_on_single_instance() {
+        OverlapGuard single = new OverlapGuard(index, new StudyroomMetrics(new SimpleMeterRegistry()), true, true);
+        when(index.overlaps(1L, NINE, TEN)).thenReturn(true);
+
+        assertThatThrownBy(() -> single.acquire(1L, NINE, TEN))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("CONFLICT_OVERLAP");
+    }
+
+    @Test
+    void committed_index_hit_is_left_to_database_when_other_nodes_write() {
+        // 다른 노드에서 취소되어 실제로는 빈 슬롯일 수 있다 → INSERT로 보내 DB 제약이 판정
+        when(index.overlaps(1L, NINE, TEN)).thenReturn(true);
+
+        assertThatCode(() -> guard.acquire(1L, NINE, TEN)).doesNotThrowAnyException();
+        verify(index, never()).overlaps(any(), any(), any());
+    }
+
+    @Test
+    void rejects_overlap_with_in_flight_reservation_until_it_completes() {
+        guard.acquire(1L, NINE, TEN);
+
+        assertThatThrownBy(() -> guard.acquire(1L, Instant.parse("2025-09-26T09:30:00Z"), ELEVEN))
+                .hasMessage("CONFLICT_OVERLAP");
+        // 맞닿은 구간 [10:00, 11:00)과 다른 방은 통과
+        assertThatCode(() -> guard.acquire(1L, TEN, ELEVEN)).doesNotThrowAnyException();
+        assertThatCode(() -> guard.acquire(2L, NINE, TEN)).doesNotThrowAnyException();
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThatCode(() -> guard.acquire(1L, NINE, TEN)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void disabled_guard_lets_everything_through() {
+        OverlapGuard off = new OverlapGuard(index, new StudyroomMetrics(new SimpleMeterRegistry()), false, true);
+        when(index.overlaps(1L, NINE, TEN)).thenReturn(true);
+
+        assertThatCode(() -> off.acquire(1L, NINE, TEN)).doesNotThrowAnyException();
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> syncs = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+        syncs.forEach(s -> s.afterCompletion(status));
+    }
+}
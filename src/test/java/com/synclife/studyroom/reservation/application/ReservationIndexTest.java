@@ -0,0 +1,156 @@
+package com.synclife.studyroom.reservation.application;
+
+import com.synclife.studyroom.reservation.domain.ReservationRepository;
+import com.synclife.studyroom.reservation.domain.ReservationSlot;
+import com.synclife.studyroom.room.application.RoomCreatedEvent;
+import com.synclife.studyroom.room.domain.Room;
+import com.synclife.studyroom.room.domain.RoomRepository;
+import com.synclife.studyroom.room.dto.AvailabilityFilter;
+import com.synclife.studyroom.room.dto.RoomAvailabilityResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReservationIndexTest {
+
+    static final LocalDate DAY     = LocalDate.parse("2025-09-26");
+    static final Instant   DAY_END = Instant.parse("2025-09-27T00:00:00Z");
+
+    ReservationRepository reservations = mock(ReservationRepository.class);
+    RoomRepository rooms = mock(RoomRepository.class);
+    MutableClock clock = new MutableClock(Instant.parse("2025-09-26T12:00:00Z"));
+    ReservationIndex index;
+    Room room;
+
+    @BeforeEach
+    void setUp() {
+        room = new Room("A", "1F", 4);
+        ReflectionTestUtils.setField(room, "id", 1L);
+        when(rooms.findAll()).thenReturn(List.of(room));
+        when(reservations.findAllOverlapping(any(Instant.class), any(Instant.class))).thenReturn(List.of(
+                slot(10L, "2025-09-26T09:00:00Z", "2025-09-26T10:00:00Z"),
+                slot(11L, "2025-09-25T23:00:00Z", "2025-09-26T01:00:00Z")
+        ));
+        index = new ReservationIndex(reservations, rooms, true, 30, clock);
+        index.warmUp();
+    }
+
+    @Test
+    void warm_index_matches_sweep_over_day() {
+        RoomAvailabilityResponse a = index.availability(DAY, AvailabilityFilter.NONE).get(0);
+
+        assertThat(a.reservations()).extracting(RoomAvailabilityResponse.ReservationWindow::id)
+                .containsExactly(11L, 10L);
+        assertThat(a.freeSlots()).containsExactly(
+                new RoomAvailabilityResponse.FreeSlot(Instant.parse("2025-09-26T01:00:00Z"), Instant.parse("2025-09-26T09:00:00Z")),
+                new RoomAvailabilityResponse.FreeSlot(Instant.parse("2025-09-26T10:00:00Z"), DAY_END)
+        );
+    }
+
+    @Test
+    void commit_events_update_index() {
+        index.on(new RoomCreatedEvent(2L, "B", "2F", 6));
+        index.on(ReservationChangedEvent.created(12L, 2L, 7L,
+                Instant.parse("2025-09-26T12:00:00Z"), Instant.parse("2025-09-26T13:00:00Z")));
+        index.on(ReservationChangedEvent.cancelled(10L, 1L, 7L,
+                Instant.parse("2025-09-26T09:00:00Z"), Instant.parse("2025-09-26T10:00:00Z")));
+
+        List<RoomAvailabilityResponse> result = index.availability(DAY, AvailabilityFilter.NONE);
+
+        assertThat(result).extracting(RoomAvailabilityResponse::roomId).containsExactly(1L, 2L);
+        assertThat(result.get(0).reservations()).extracting(RoomAvailabilityResponse.ReservationWindow::id)
+                .containsExactly(11L);
+        assertThat(result.get(1).reservations()).extracting(RoomAvailabilityResponse.ReservationWindow::id)
+                .containsExactly(12L);
+    }
+
+    @Test
+    void filter_clips_to_window_and_drops_rooms_without_long_enough_gap() {
+        index.on(new RoomCreatedEvent(2L, "B", "3F", 6));
+        index.on(ReservationChangedEvent.created(12L, 2L, 7L,
+                Instant.parse("2025-09-26T10:00:00Z"), Instant.parse("2025-09-26T17:00:00Z")));
+
+        var twoHoursOnDaytime = new AvailabilityFilter(null, null, 120, LocalTime.of(8, 0), LocalTime.of(18, 0));
+        List<RoomAvailabilityResponse> result = index.availability(DAY, twoHoursOnDaytime);
+
+        // 방 1: 08:00~09:00(1h) 탈락, 10:00~18:00 통과 / 방 2: 08:00~10:00(2h) 통과
+        assertThat(result).extracting(RoomAvailabilityResponse::roomId).containsExactly(1L, 2L);
+        assertThat(result.get(0).freeSlots()).containsExactly(new RoomAvailabilityResponse.FreeSlot(
+                Instant.parse("2025-09-26T10:00:00Z"), Instant.parse("2025-09-26T18:00:00Z")));
+
+        var bigRoomsOn3F = new AvailabilityFilter("3F", 5, 180, LocalTime.of(8, 0), LocalTime.of(18, 0));
+        assertThat(index.availability(DAY, bigRoomsOn3F)).isEmpty();
+    }
+
+    @Test
+    void warm_up_reads_only_the_window() {
+        // 오늘(9/26) - 7일 ~ 오늘 + 30일 (양끝 날짜 포함)
+        verify(reservations).findAllOverlapping(Instant.parse("2025-09-19T00:00:00Z"), Instant.parse("2025-10-27T00:00:00Z"));
+
+        assertThat(index.covers(LocalDate.parse("2025-09-19"), LocalDate.parse("2025-10-26"))).isTrue();
+        assertThat(index.covers(LocalDate.parse("2025-09-18"), DAY)).isFalse();
+        assertThat(index.covers(DAY, LocalDate.parse("2025-10-27"))).isFalse();
+        assertThat(new ReservationIndex(reservations, rooms, false, 30, clock).covers(DAY, DAY)).isFalse();
+    }
+
+    @Test
+    void roll_loads_new_days_and_drops_reservations_before_the_window() {
+        when(reservations.findAllOverlapping(any(Instant.class), any(Instant.class))).thenReturn(List.of(
+                slot(20L, "2025-10-27T09:00:00Z", "2025-10-27T10:00:00Z")));
+        clock.advance(Duration.ofDays(8));   // 10/04: 창 [9/27, 11/04]
+
+        index.roll();
+
+        verify(reservations).findAllOverlapping(Instant.parse("2025-10-27T00:00:00Z"), Instant.parse("2025-11-04T00:00:00Z"));
+        assertThat(index.covers(DAY, DAY)).isFalse();
+        assertThat(index.covers(LocalDate.parse("2025-09-27"), LocalDate.parse("2025-11-03"))).isTrue();
+        // 9/26에 끝난 예약은 버리고, 새로 창에 들어온 날짜의 예약은 읽어 온다
+        assertThat(index.slots(1L).ids()).containsExactly(20L);
+    }
+
+    @Test
+    void roll_replays_commits_that_arrive_while_loading() {
+        when(reservations.findAllOverlapping(any(Instant.class), any(Instant.class))).thenAnswer(inv -> {
+            // 읽은 직후 취소가 커밋된다 → 스냅숏에는 남아 있다
+            index.on(ReservationChangedEvent.cancelled(20L, 1L, 7L,
+                    Instant.parse("2025-10-27T09:00:00Z"), Instant.parse("2025-10-27T10:00:00Z")));
+            return List.of(slot(20L, "2025-10-27T09:00:00Z", "2025-10-27T10:00:00Z"));
+        });
+        clock.advance(Duration.ofDays(1));
+
+        index.roll();
+
+        assertThat(index.slots(1L).ids()).containsExactly(11L, 10L);
+    }
+
+    private ReservationSlot slot(Long id, String start, String end) {
+        return new ReservationSlot(1L, id, 7L, Instant.parse(start), Instant.parse(end));
+    }
+
+    static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) { this.now = now; }
+
+        void advance(Duration d) { now = now.plus(d); }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
+}
@@ -0,0 +1,72 @@
+package com.synclife.studyroom.reservation.application;
+
+import com.synclife.studyroom.common.ResourceNotFoundException;
+import com.synclife.studyroom.common.StudyroomMetrics;
+import com.synclife.studyroom.reservation.domain.ReservationBatchWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReservationWriteQueueTest {
+
+    static final Instant NINE = Instant.parse("2025-09-26T09:00:00Z");
+    static final Instant TEN  = Instant.parse("2025-09-26T10:00:00Z");
+
+    ReservationBatchWriter batchWriter = mock(ReservationBatchWriter.class);
+    ReservationIndex index = mock(ReservationIndex.class);
+    ReservationWriteQueue queue = new ReservationWriteQueue(batchWriter, index, mock(PlatformTransactionManager.class),
+            mock(ApplicationEventPublisher.class), new StudyroomMetrics(new SimpleMeterRegistry()),
+            "queued", 100, 1000, Duration.ofSeconds(5));
+
+    @BeforeEach
+    void rooms() {
+        when(index.isReady()).thenReturn(true);
+        when(index.slots(1L)).thenReturn(ReservationIndex.RoomSlots.empty(1L, "A", "1F", 4));
+        when(batchWriter.existingRoomIds(anySet())).thenReturn(Set.of());
+        when(batchWriter.insertAll(anyList(), anyBoolean())).thenAnswer(inv -> {
+            List<ReservationBatchWriter.UserRow> rows = inv.getArgument(0);
+            return rows.stream().map(r -> new ReservationBatchWriter.Inserted(10L, r.roomId(), r.startAt(), r.endAt())).toList();
+        });
+    }
+
+    @AfterEach
+    void shutdown() {
+        queue.shutdown();
+    }
+
+    @Test
+    void unknown_room_is_rejected_without_creating_a_writer() {
+        assertThatThrownBy(() -> queue.create(999L, 7L, NINE, TEN)).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(queue.writerCount()).isZero();
+        verify(batchWriter, never()).insertAll(anyList(), anyBoolean());
+    }
+
+    @Test
+    void writer_is_removed_once_its_queue_drains_and_recreated_on_demand() {
+        assertThat(queue.create(1L, 7L, NINE, TEN).id()).isEqualTo(10L);
+        await().until(() -> queue.writerCount() == 0);
+
+        // 은퇴 후 같은 방 요청은 새 작성자가 받는다
+        assertThat(queue.create(1L, 8L, TEN, TEN.plusSeconds(3600)).roomId()).isEqualTo(1L);
+        await().until(() -> queue.writerCount() == 0);
+    }
+}
@@ -0,0 +1,128 @@
+package com.synclife.studyroom.reservation.application;
+
+import com.synclife.studyroom.common.StudyroomMetrics;
+import com.synclife.studyroom.reservation.domain.ReservationRepository;
+import com.synclife.studyroom.reservation.domain.ReservationSlot;
+import com.synclife.studyroom.room.domain.Room;
+import com.synclife.studyroom.room.domain.RoomRepository;
+import com.synclife.studyroom.room.dto.AvailabilityFilter;
+import com.synclife.studyroom.room.dto.RoomAvailabilityResponse;
+import com.synclife.studyroom.room.dto.RoomSlotMatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RoomSearchTest {
+
+    static final LocalDate DAY = LocalDate.parse("2025-09-26");
+    static final Clock TODAY = Clock.fixed(DAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+
+    ReservationRepository reservations = mock(ReservationRepository.class);
+    RoomRepository rooms = mock(RoomRepository.class);
+    ReservationIndex index;
+    List<LocalDate> engineCalls = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(rooms.findAll()).thenReturn(List.of(
+                room(1L, "A", "3F", 8), room(2L, "B", "3F", 6), room(3L, "C", "1F", 4)));
+        when(reservations.findAllOverlapping(any(Instant.class), any(Instant.class))).thenReturn(List.of(
+                // 26일: A 09~10, B 09~12 예약, C 종일 예약
+                slot(1L, 10L, "2025-09-26T09:00:00Z", "2025-09-26T10:00:00Z"),
+                slot(2L, 11L, "2025-09-26T09:00:00Z", "2025-09-26T12:00:00Z"),
+                slot(3L, 12L, "2025-09-26T00:00:00Z", "2025-09-27T00:00:00Z"),
+                // 27일: A, B 모두 09~17 예약
+                slot(1L, 13L, "2025-09-27T09:00:00Z", "2025-09-27T17:00:00Z"),
+                slot(2L, 14L, "2025-09-27T09:00:00Z", "2025-09-27T17:00:00Z")
+        ));
+        index = new ReservationIndex(reservations, rooms, true, 180, TODAY);
+        index.warmUp();
+    }
+
+    @Test
+    void returns_earliest_slots_across_rooms_and_days() {
+        var filter = new AvailabilityFilter(null, null, 120, LocalTime.of(9, 0), LocalTime.of(18, 0));
+
+        List<RoomSlotMatch> found = service(true).search(DAY, 7, filter, 4);
+
+        // 27일은 C만 2시간 이상 비고, 28일 09:00 동점은 가장 작은 C
+        assertThat(found).extracting(RoomSlotMatch::roomId, RoomSlotMatch::startAt).containsExactly(
+                tuple(1L, Instant.parse("2025-09-26T10:00:00Z")),
+                tuple(2L, Instant.parse("2025-09-26T12:00:00Z")),
+                tuple(3L, Instant.parse("2025-09-27T09:00:00Z")),
+                tuple(3L, Instant.parse("2025-09-28T09:00:00Z")));
+    }
+
+    @Test
+    void same_start_prefers_smallest_fitting_room() {
+        var filter = new AvailabilityFilter("3F", 5, 60, LocalTime.of(18, 0), null);
+
+        List<RoomSlotMatch> found = service(true).search(DAY, 1, filter, 10);
+
+        // 18:00에 둘 다 비어 있으면 수용 인원 6인 B가 8인 A보다 먼저
+        assertThat(found).extracting(RoomSlotMatch::roomId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void stops_scanning_days_once_limit_is_reached() {
+        var filter = new AvailabilityFilter(null, null, 60, LocalTime.of(9, 0), LocalTime.of(18, 0));
+
+        List<RoomSlotMatch> found = service(false).search(DAY, 31, filter, 3);
+
+        assertThat(found).hasSize(3);
+        assertThat(engineCalls).containsExactly(DAY, DAY.plusDays(1));
+    }
+
+    @Test
+    void rejects_invalid_requests() {
+        var filter = new AvailabilityFilter(null, null, 60, null, null);
+        ReservationService service = service(true);
+
+        assertThatThrownBy(() -> service.search(DAY, 32, filter, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.search(DAY, 0, filter, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.search(DAY, 1, filter, 101)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.search(DAY, 1, AvailabilityFilter.NONE, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /** useIndex=false면 인덱스 대신 (같은 데이터를 돌려주는) DB 엔진 경로를 탄다 */
+    private ReservationService service(boolean useIndex) {
+        ReservationIndex serving = useIndex ? index : new ReservationIndex(reservations, rooms, false, 180, TODAY);
+        AvailabilityEngine engine = new AvailabilityEngine() {
+            @Override public String name() { return "sweep"; }
+
+            @Override
+            public List<RoomAvailabilityResponse> availability(LocalDate dateUtc, AvailabilityFilter filter) {
+                engineCalls.add(dateUtc);
+                return index.availability(dateUtc, filter);
+            }
+        };
+        return new ReservationService(null, rooms, serving, null, new AvailabilityVersions(), null, null, null, null,
+                List.of(engine), null, null, new StudyroomMetrics(new SimpleMeterRegistry()), "sweep", 31, 200);
+    }
+
+    static Room room(Long id, String name, String location, int capacity) {
+        Room room = new Room(name, location, capacity);
+        ReflectionTestUtils.setField(room, "id", id);
+        return room;
+    }
+
+    static ReservationSlot slot(Long roomId, Long id, String start, String end) {
+        return new ReservationSlot(roomId, id, 7L, Instant.parse(start), Instant.parse(end));
+    }
+}
@@ -0,0 +1,39 @@
+package com.synclife.studyroom.room.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.synclife.studyroom.reservation.application.ReservationIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인메모리 인덱스를 끈 상태의 GET /rooms/availability: DatabaseAvailabilityReader의 커서 경로로 스트리밍한다.
+ */
+@SpringBootTest(properties = "studyroom.availability.index.enabled=false")
+@AutoConfigureMockMvc
+class RoomAvailabilityCursorStreamTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired ReservationIndex index;
+
+    @Test
+    void streams_one_line_per_room_and_day_from_database_cursor() throws Exception {
+        assertThat(index.isReady()).isFalse();
+        Long roomId = RoomControllerTest.createRoom(mvc);
+        RoomControllerTest.reserve(mvc, roomId, "2025-11-25T23:00:00Z", "2025-11-26T01:00:00Z");
+
+        List<JsonNode> lines = RoomControllerTest.stream(mvc, "2025-11-25", "2025-11-27");
+
+        List<JsonNode> ours = lines.stream().filter(l -> l.get("roomId").asLong() == roomId).toList();
+        assertThat(ours).extracting(l -> l.get("date").asText()).containsExactly("2025-11-25", "2025-11-26", "2025-11-27");
+        // 자정을 걸친 예약은 두 날짜 줄 모두에 나온다
+        assertThat(ours).extracting(l -> l.get("reservations").size()).containsExactly(1, 1, 0);
+        assertThat(lines).hasSize(lines.stream().map(l -> l.get("roomId").asLong()).distinct().toList().size() * 3);
+    }
+}
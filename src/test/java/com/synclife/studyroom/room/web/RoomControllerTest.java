@@ -0,0 +1,170 @@
+package com.synclife.studyroom.room.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * HTTP 계약 테스트. 방은 API로 등록해 인덱스/버전 이벤트가 실제와 같게 흐르도록 하고,
+ * 다른 테스트의 데이터와 섞이지 않도록 테스트마다 다른 날짜를 쓴다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class RoomControllerTest {
+
+    static final String ADMIN = "Bearer admin-token";
+    static final String USER = "Bearer user-token-7";
+
+    @Autowired MockMvc mvc;
+
+    Long roomId;
+
+    @BeforeEach
+    void createRoom() throws Exception {
+        roomId = createRoom(mvc);
+    }
+
+    static Long createRoom(MockMvc mvc) throws Exception {
+        String body = mvc.perform(post("/rooms")
+                        .header(HttpHeaders.AUTHORIZATION, ADMIN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"A","location":"1F","capacity":4}"""))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return ((Number) JsonPath.read(body, "$.id")).longValue();
+    }
+
+    @Test
+    void availability_has_etag() throws Exception {
+        mvc.perform(get("/rooms").param("date", "2025-11-10"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    }
+
+    @Test
+    void matching_etag_is_not_modified() throws Exception {
+        String etag = etag("2025-11-11");
+
+        mvc.perform(get("/rooms").param("date", "2025-11-11").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void create_on_same_date_changes_etag() throws Exception {
+        String before = etag("2025-11-12");
+
+        reserve("2025-11-12T09:00:00Z", "2025-11-12T10:00:00Z");
+
+        assertThat(etag("2025-11-12")).isNotEqualTo(before);
+        mvc.perform(get("/rooms").param("date", "2025-11-12").header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void create_on_other_date_keeps_etag() throws Exception {
+        String before = etag("2025-11-13");
+
+        reserve("2025-11-14T09:00:00Z", "2025-11-14T10:00:00Z");
+
+        assertThat(etag("2025-11-13")).isEqualTo(before);
+        mvc.perform(get("/rooms").param("date", "2025-11-13").header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void availability_range_streams_one_line_per_room_and_day() throws Exception {
+        // 인메모리 인덱스 경로를 타도록 인덱스 창(오늘 - 7일 ~ 오늘 + horizon-days) 안의 날짜
+        LocalDate from = LocalDate.now(ZoneOffset.UTC).plusDays(20);
+        reserve(from.plusDays(1) + "T09:00:00Z", from.plusDays(1) + "T10:00:00Z");
+
+        List<JsonNode> lines = stream(from.toString(), from.plusDays(2).toString());
+
+        // 방 id → 일자 순, 방마다 3줄
+        List<JsonNode> ours = lines.stream().filter(l -> l.get("roomId").asLong() == roomId).toList();
+        assertThat(ours).extracting(l -> l.get("date").asText())
+                .containsExactly(from.toString(), from.plusDays(1).toString(), from.plusDays(2).toString());
+        assertThat(ours.get(1).get("reservations")).hasSize(1);
+        assertThat(ours.get(0).get("reservations")).isEmpty();
+        assertThat(lines).hasSize(lines.stream().map(l -> l.get("roomId").asLong()).distinct().toList().size() * 3);
+    }
+
+    @Test
+    void availability_range_rejects_inverted_range() throws Exception {
+        mvc.perform(get("/rooms/availability").param("from", "2025-11-22").param("to", "2025-11-20"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void availability_range_rejects_range_over_maximum() throws Exception {
+        // 양끝 포함 31일(11/01~12/01)까지는 스트리밍, 32일부터 400
+        mvc.perform(get("/rooms/availability").param("from", "2025-11-01").param("to", "2025-12-01"))
+                .andExpect(request().asyncStarted());
+        mvc.perform(get("/rooms/availability").param("from", "2025-11-01").param("to", "2025-12-02"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest());
+    }
+
+    /** NDJSON 스트림(비동기)을 끝까지 받아 줄마다 파싱 */
+    static List<JsonNode> stream(MockMvc mvc, String from, String to) throws Exception {
+        MvcResult started = mvc.perform(get("/rooms/availability").param("from", from).param("to", to))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        ObjectMapper json = new ObjectMapper();
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) lines.add(json.readTree(line));
+        return lines;
+    }
+
+    private List<JsonNode> stream(String from, String to) throws Exception {
+        return stream(mvc, from, to);
+    }
+
+    private String etag(String date) throws Exception {
+        return mvc.perform(get("/rooms").param("date", date))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private void reserve(String start, String end) throws Exception {
+        reserve(mvc, roomId, start, end);
+    }
+
+    static void reserve(MockMvc mvc, Long roomId, String start, String end) throws Exception {
+        mvc.perform(post("/reservations")
+                        .header(HttpHeaders.AUTHORIZATION, USER)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"roomId":%d,"startAt":"%s","endAt":"%s"}""".formatted(roomId, start, end)))
+                .andExpect(status().isCreated());
+    }
+}